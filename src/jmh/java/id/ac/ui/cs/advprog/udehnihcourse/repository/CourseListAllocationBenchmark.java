@@ -0,0 +1,96 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.model.ArticleBody;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.CourseEnrollmentCount;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The catalog list path with 200 courses on in-memory H2: hydrating managed Course entities
+ * versus selecting the CourseSummary projection, each in a fresh session like a fresh request.
+ * Compare gc.alloc.rate.norm (bytes allocated per call) from the gc profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseListAllocationBenchmark {
+
+    private static final int COURSES = 200;
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:list-benchmark;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClasses(Course.class, CourseEnrollmentCount.class, Section.class, Article.class, ArticleBody.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        String description = "d".repeat(1000);
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < COURSES; i++) {
+                session.persist(Course.builder()
+                        .title("Course " + i)
+                        .description(description)
+                        .category("Category " + (i % 10))
+                        .tutorId("tutor-" + (i % 20))
+                        .price(new BigDecimal("10.00"))
+                        .build());
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public List<List<Object>> entityList() {
+        return sessionFactory.fromTransaction(session -> session.createSelectionQuery("FROM Course", Course.class)
+                .getResultList().stream()
+                .map(c -> List.<Object>of(c.getId(), c.getTitle(), c.getPrice(), c.getTutorId()))
+                .toList());
+    }
+
+    @Benchmark
+    public List<List<Object>> projectionList() {
+        return sessionFactory.fromTransaction(session -> session
+                .createSelectionQuery(CourseRepository.SUMMARY_SELECT, CourseSummary.class)
+                .getResultList().stream()
+                .map(c -> List.<Object>of(c.id(), c.title(), c.price(), c.tutorId()))
+                .toList());
+    }
+}
@@ -0,0 +1,119 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.model.ArticleBody;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persisting one course with 10 sections of 20 articles (211 rows) through a standalone
+ * Hibernate SessionFactory on in-memory H2, with JDBC batching off (batchSize 1) and on (50).
+ * The statements and courses aux counters total each iteration; their ratio is the number of
+ * JDBC statements, i.e. database round trips, spent per persisted course.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CoursePersistBenchmark {
+
+    private static final int SECTIONS = 10;
+    private static final int ARTICLES_PER_SECTION = 20;
+
+    @Param({"1", "50"})
+    int batchSize;
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Statements {
+        public long statements;
+        public long courses;
+    }
+
+    @Setup
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:persist-benchmark;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+                .applySetting(AvailableSettings.GENERATE_STATISTICS, true)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClasses(Course.class, Section.class, Article.class, ArticleBody.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteRows() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("DELETE FROM Article").executeUpdate();
+            session.createMutationQuery("DELETE FROM Section").executeUpdate();
+            session.createMutationQuery("DELETE FROM Course").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public Long persistCourse(Statements counters) {
+        long before = statistics.getPrepareStatementCount();
+        Course course = course();
+        sessionFactory.inTransaction(session -> session.persist(course));
+        counters.statements += statistics.getPrepareStatementCount() - before;
+        counters.courses++;
+        return course.getId();
+    }
+
+    private static Course course() {
+        Course course = Course.builder().title("Big Course").tutorId("tutor-1").build();
+        for (int s = 0; s < SECTIONS; s++) {
+            Section section = new Section();
+            section.setTitle("Section " + s);
+            for (int a = 0; a < ARTICLES_PER_SECTION; a++) {
+                Article article = new Article();
+                article.setTitle("Article " + s + "." + a);
+                article.setContent("Body");
+                section.addArticle(article);
+            }
+            course.addSection(section);
+        }
+        return course;
+    }
+}
@@ -0,0 +1,66 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import id.ac.ui.cs.advprog.udehnihcourse.enrollment.EnrollmentCounter;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+
+/**
+ * Synthetic courses and a CourseBrowsingService wired just enough for its mapping methods.
+ */
+final class BenchmarkFixtures {
+
+    static final int ARTICLES_PER_SECTION = 10;
+
+    private static final String PARAGRAPH = "Lorem ipsum dolor sit amet, consectetur adipiscing elit, "
+            + "sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. ";
+
+    private BenchmarkFixtures() {
+    }
+
+    static CourseBrowsingService browsingService() {
+        CourseBrowsingService service = new CourseBrowsingService();
+        // convertToDto only reads pending deltas, which never touch the database.
+        inject(service, "enrollmentCounter", new EnrollmentCounter(null, null, null));
+        return service;
+    }
+
+    static Course course(long id, int articleCount) {
+        Course course = Course.builder()
+                .id(id)
+                .title("Course " + id)
+                .description(PARAGRAPH)
+                .category("Programming")
+                .tutorId("tutor-" + (id % 50))
+                .price(BigDecimal.valueOf(id, 2))
+                .build();
+        Section section = null;
+        for (int i = 0; i < articleCount; i++) {
+            if (i % ARTICLES_PER_SECTION == 0) {
+                section = new Section();
+                section.setId(id * 10_000 + i / ARTICLES_PER_SECTION);
+                section.setTitle("Section " + i / ARTICLES_PER_SECTION);
+                course.addSection(section);
+            }
+            Article article = new Article();
+            article.setId(id * 10_000 + i);
+            article.setTitle("Article " + i);
+            article.setContent(PARAGRAPH.repeat(16));
+            section.addArticle(article);
+        }
+        return course;
+    }
+
+    private static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
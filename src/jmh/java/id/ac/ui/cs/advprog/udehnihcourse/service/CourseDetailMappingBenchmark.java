@@ -0,0 +1,78 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.ArticleDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.SectionDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Course detail path: entity tree to DTOs, and DTO to JSON bytes.
+ * Run with the GC profiler (./gradlew jmh does) to see gc.alloc.rate.norm, bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseDetailMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int articles;
+
+    private CourseBrowsingService service;
+    private ObjectMapper objectMapper;
+    private List<Section> sections;
+    private List<Article> allArticles;
+    private CourseDetailDTO detail;
+
+    @Setup
+    public void setUp() {
+        service = BenchmarkFixtures.browsingService();
+        objectMapper = new ObjectMapper();
+        Course course = BenchmarkFixtures.course(1L, articles);
+        sections = course.getSections();
+        allArticles = sections.stream().flatMap(section -> section.getArticles().stream()).toList();
+        detail = CourseDetailDTO.builder()
+                .id(course.getId())
+                .title(course.getTitle())
+                .description(course.getDescription())
+                .tutorName("Tutor Name")
+                .price(course.getPrice())
+                .sections(service.mapToSectionDTOs(sections))
+                .build();
+    }
+
+    @Benchmark
+    public List<SectionDTO> mapToSectionDTOs() {
+        return service.mapToSectionDTOs(sections);
+    }
+
+    @Benchmark
+    public List<ArticleDTO> mapToArticleDTOs() {
+        return service.mapToArticleDTOs(allArticles);
+    }
+
+    @Benchmark
+    public byte[] serializeCourseDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detail);
+    }
+}
@@ -0,0 +1,61 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Course list path: CourseSummary projections to CourseListDTOs, one operation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseListMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int courses;
+
+    private CourseBrowsingService service;
+    private List<CourseSummary> summaries;
+    private Map<String, String> tutorNames;
+
+    @Setup
+    public void setUp() {
+        service = BenchmarkFixtures.browsingService();
+        summaries = new ArrayList<>();
+        tutorNames = new HashMap<>();
+        for (long id = 1; id <= courses; id++) {
+            String tutorId = "tutor-" + (id % 50);
+            summaries.add(new CourseSummary(id, "Course " + id, "Programming", BigDecimal.valueOf(id, 2),
+                    tutorId, null, id));
+            tutorNames.put(tutorId, "Tutor " + tutorId);
+        }
+    }
+
+    @Benchmark
+    public void convertToDto(Blackhole blackhole) {
+        for (CourseSummary summary : summaries) {
+            blackhole.consume(service.convertToDto(summary, tutorNames));
+        }
+    }
+}
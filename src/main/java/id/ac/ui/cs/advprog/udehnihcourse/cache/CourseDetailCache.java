@@ -0,0 +1,104 @@
+package id.ac.ui.cs.advprog.udehnihcourse.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.ArticleDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.SectionDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.event.CourseChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of fully built CourseDetailDTO trees, weighed by the characters they hold
+ * so a few very large courses cannot crowd out everything else.
+ * Entries expire after a TTL and are invalidated as soon as an update or delete commits.
+ * Hit, miss and eviction counts are published as the "courseDetail" cache metrics.
+ */
+@Component
+public class CourseDetailCache {
+
+    public static final String CACHE_NAME = "courseDetail";
+
+    private final Cache<Long, CourseDetailDTO> cache;
+    // Bumped before every invalidation, so a load that overlapped one can tell its result may be stale.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CourseDetailCache(MeterRegistry meterRegistry,
+                             @Value("${udehnih.cache.course-detail.max-weight:20000000}") long maxWeight,
+                             @Value("${udehnih.cache.course-detail.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Long courseId, CourseDetailDTO course) -> weigh(course))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached course, building it with the loader on a miss. Loader exceptions are
+     * propagated and nothing is cached.
+     * The loader runs outside the cache: Caffeine's get(key, loader) would run the JDBC work inside
+     * ConcurrentHashMap.compute, pinning a virtual thread's carrier for the whole load. Concurrent
+     * misses on one course may therefore each load it. A result whose load overlapped an
+     * invalidation is returned but not kept.
+     */
+    public CourseDetailDTO get(Long courseId, Function<Long, CourseDetailDTO> loader) {
+        CourseDetailDTO cached = cache.getIfPresent(courseId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = invalidations.get();
+        CourseDetailDTO loaded = loader.apply(courseId);
+        cache.put(courseId, loaded);
+        if (invalidations.get() != generation) {
+            cache.invalidate(courseId);
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long courseId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(courseId);
+    }
+
+    // Runs pending evictions now instead of on Caffeine's maintenance executor.
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    @TransactionalEventListener
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.type() != CourseChangedEvent.ChangeType.CREATED) {
+            invalidate(event.courseId());
+        }
+    }
+
+    static int weigh(CourseDetailDTO course) {
+        long weight = length(course.getTitle()) + length(course.getDescription());
+        if (course.getSections() != null) {
+            for (SectionDTO section : course.getSections()) {
+                weight += length(section.getTitle());
+                if (section.getArticles() == null) {
+                    continue;
+                }
+                for (ArticleDTO article : section.getArticles()) {
+                    weight += length(article.getTitle()) + length(article.getContent());
+                }
+            }
+        }
+        return (int) Math.min(Math.max(weight, 1), Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -0,0 +1,26 @@
+package id.ac.ui.cs.advprog.udehnihcourse.client;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Local stand-in for the user service, used until the remote client exists and in tests.
+ * Every id resolves to the same placeholder name.
+ */
+@Component
+public class LocalTutorLookupClient implements TutorLookupClient {
+
+    public static final String PLACEHOLDER_NAME = "Tutor Name";
+
+    @Override
+    public Map<String, String> findNamesByIds(Collection<String> tutorIds) {
+        Map<String, String> names = new HashMap<>();
+        for (String tutorId : tutorIds) {
+            names.put(tutorId, PLACEHOLDER_NAME);
+        }
+        return names;
+    }
+}
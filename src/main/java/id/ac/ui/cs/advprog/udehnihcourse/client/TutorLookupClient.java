@@ -0,0 +1,17 @@
+package id.ac.ui.cs.advprog.udehnihcourse.client;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Bulk lookup of tutor display names from the user service.
+ * Design Pattern: Adapter - hides the remote user service behind a local interface.
+ */
+public interface TutorLookupClient {
+
+    /**
+     * Resolves display names for the given tutor ids in a single call.
+     * Ids that do not belong to a known user are left out of the result.
+     */
+    Map<String, String> findNamesByIds(Collection<String> tutorIds);
+}
@@ -0,0 +1,31 @@
+package id.ac.ui.cs.advprog.udehnihcourse.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Lets articles.content be NULL on databases created before bodies could be stored compressed.
+ * Depends on the EntityManagerFactory so it runs after Hibernate has added the compression columns.
+ */
+@Component
+@Profile("postgres")
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class PostgresArticleContentInitializer implements InitializingBean {
+
+    static final String SCHEMA_SCRIPT = "db/postgres/article-content-compression.sql";
+
+    private final DataSource dataSource;
+
+    @Override
+    public void afterPropertiesSet() {
+        new ResourceDatabasePopulator(new ClassPathResource(SCHEMA_SCRIPT)).execute(dataSource);
+    }
+}
@@ -0,0 +1,32 @@
+package id.ac.ui.cs.advprog.udehnihcourse.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Aligns the entity id sequences with rows inserted while ids were IDENTITY columns,
+ * so the first pooled block cannot collide with existing ids.
+ * Depends on the EntityManagerFactory so it runs after Hibernate has created the sequences.
+ */
+@Component
+@Profile("postgres")
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class PostgresSequenceInitializer implements InitializingBean {
+
+    static final String SEQUENCE_SCRIPT = "db/postgres/id-sequences.sql";
+
+    private final DataSource dataSource;
+
+    @Override
+    public void afterPropertiesSet() {
+        new ResourceDatabasePopulator(new ClassPathResource(SEQUENCE_SCRIPT)).execute(dataSource);
+    }
+}
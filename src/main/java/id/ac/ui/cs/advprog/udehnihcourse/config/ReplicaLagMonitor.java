@@ -0,0 +1,116 @@
+package id.ac.ui.cs.advprog.udehnihcourse.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Measures how far the replica trails the primary with a heartbeat row.
+ * Each check first reads the replica's copy of the heartbeat and compares it with the current time,
+ * then writes a fresh heartbeat to the primary. A stalled replica therefore ages with the clock
+ * rather than with the previous heartbeat.
+ * The replica is usable while that age stays within the configured maximum lag;
+ * it starts out unusable until the first successful check.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String HEARTBEAT_TABLE = "replication_heartbeat";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final Clock clock;
+
+    private volatile Long lastBeatMillis;
+    private volatile long lagMillis = -1;
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, Clock clock) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates the heartbeat table on the primary. Replication carries it over to the replica.
+     */
+    public void initialize() {
+        primary.execute("CREATE TABLE IF NOT EXISTS " + HEARTBEAT_TABLE
+                + " (id INT PRIMARY KEY, beat_millis BIGINT NOT NULL)");
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("udehnih.datasource.replica.lag", this, monitor -> monitor.lagMillis / 1000.0)
+                .description("Replica lag behind the primary in seconds, -1 when unknown")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("udehnih.datasource.replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+                .description("1 while read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    // A fixed-delay schedule never overlaps itself, so no lock is held around the JDBC calls,
+    // which would pin the carrier thread when scheduled work runs on virtual threads.
+    @Scheduled(fixedDelayString = "${udehnih.datasource.replica.lag-check-interval:2s}")
+    public void check() {
+        probeReplica();
+        writeHeartbeat();
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Lag measured by the last check, or null when the replica could not be read.
+     */
+    public Duration currentLag() {
+        long lag = lagMillis;
+        return lag < 0 ? null : Duration.ofMillis(lag);
+    }
+
+    private void probeReplica() {
+        if (lastBeatMillis == null) {
+            return;
+        }
+        try {
+            Long replicaBeat = replica.query("SELECT beat_millis FROM " + HEARTBEAT_TABLE + " WHERE id = 1",
+                    rs -> rs.next() ? rs.getLong(1) : null);
+            long lag = replicaBeat == null ? -1 : Math.max(0, clock.millis() - replicaBeat);
+            update(lag, lag >= 0 && lag <= maxLag.toMillis());
+        } catch (DataAccessException e) {
+            log.warn("Replica heartbeat check failed, routing reads to the primary: {}", e.getMessage());
+            update(-1, false);
+        }
+    }
+
+    private void writeHeartbeat() {
+        long now = clock.millis();
+        try {
+            int updated = primary.update("UPDATE " + HEARTBEAT_TABLE + " SET beat_millis = ? WHERE id = 1", now);
+            if (updated == 0) {
+                primary.update("INSERT INTO " + HEARTBEAT_TABLE + " (id, beat_millis) VALUES (1, ?)", now);
+            }
+            lastBeatMillis = now;
+        } catch (DataAccessException e) {
+            log.warn("Could not write replication heartbeat to the primary: {}", e.getMessage());
+        }
+    }
+
+    private void update(long lag, boolean usable) {
+        if (usable != replicaUsable) {
+            log.info("Replica {} (lag {} ms)", usable ? "back in rotation" : "taken out of rotation", lag);
+        }
+        lagMillis = lag;
+        replicaUsable = usable;
+    }
+}
@@ -0,0 +1,51 @@
+package id.ac.ui.cs.advprog.udehnihcourse.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Virtual-thread execution mode, switched on with spring.threads.virtual.enabled=true.
+ * Spring Boot then serves requests and runs @Scheduled work on virtual threads;
+ * this configuration adds the matching cap on concurrent JDBC access.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * Wraps every DataSource in a ConcurrencyLimitedDataSource sized to the Hikari pool,
+     * unless udehnih.db.max-concurrency sets an explicit limit. The read/write routing proxy is
+     * left alone; the pools behind it are limited individually.
+     */
+    @Bean
+    static BeanPostProcessor dataSourceConcurrencyLimiter(
+            @Value("${udehnih.db.max-concurrency:0}") int maxConcurrency,
+            @Value("${udehnih.db.acquire-timeout:30s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource
+                        || bean instanceof LazyConnectionDataSourceProxy) {
+                    return bean;
+                }
+                int permits = maxConcurrency > 0 ? maxConcurrency : poolSizeOf(dataSource);
+                return new ConcurrencyLimitedDataSource(dataSource, permits, acquireTimeout);
+            }
+        };
+    }
+
+    private static int poolSizeOf(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        return Runtime.getRuntime().availableProcessors() * 2;
+    }
+}
@@ -1,13 +1,17 @@
 package id.ac.ui.cs.advprog.udehnihcourse.controller;
 
 import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseCreateRequest;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseImportResponse;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseResponse;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseUpdateRequest;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.course.TutorCourseListItem;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.GenericResponse;
+import id.ac.ui.cs.advprog.udehnihcourse.enrollment.EnrollmentCounter;
 import id.ac.ui.cs.advprog.udehnihcourse.service.CourseManagementService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -16,11 +20,26 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.ArticleDTO;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CourseListDTO;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CoursePageDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleContent;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseVersion;
 import id.ac.ui.cs.advprog.udehnihcourse.service.CourseBrowsingService;
+import id.ac.ui.cs.advprog.udehnihcourse.service.CourseExportService;
+import id.ac.ui.cs.advprog.udehnihcourse.service.CourseImportService;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
 import java.util.List;
 
 /**
@@ -32,8 +51,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CourseManagementController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final CourseManagementService courseManagementService;
     private final CourseBrowsingService courseBrowsingService;
+    private final CourseExportService courseExportService;
+    private final CourseImportService courseImportService;
+    private final EnrollmentCounter enrollmentCounter;
 
     @PostMapping
     public ResponseEntity<CourseResponse> createCourse(@RequestBody CourseCreateRequest createRequest) {
@@ -44,6 +68,18 @@ public class CourseManagementController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Imports full course trees from an NDJSON body, one course per line, and reports the outcome per line.
+     */
+    @PostMapping(value = "/import", consumes = CourseExportService.NDJSON_MEDIA_TYPE)
+    public ResponseEntity<CourseImportResponse> importCourses(InputStream body) {
+        // TODO: Get authenticated Tutor ID from Security Context
+        String tutorId = "tutor-test";
+
+        CourseImportResponse response = courseImportService.importCourses(body, tutorId);
+        return ResponseEntity.ok(response);
+    }
+
 //    @GetMapping("/tutor/courses")
 //    public ResponseEntity<List<TutorCourseListItem>> getMyCourses() {
 //        // TODO: Get authenticated Tutor ID from Security Context
@@ -73,20 +109,181 @@ public class CourseManagementController {
 
     
     @GetMapping
-    public ResponseEntity<List<CourseListDTO>> getAllCourses() {
-        List<CourseListDTO> courses = courseBrowsingService.getAllCourses();
-        return ResponseEntity.ok(courses);
+    public ResponseEntity<List<CourseListDTO>> getAllCourses(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size,
+                                                             WebRequest request) {
+        // Paged clients keep the same array body and follow the cursor header until it disappears.
+        List<CourseListDTO> courses;
+        String nextCursor = null;
+        if (cursor == null && size == null) {
+            courses = courseBrowsingService.getAllCourses();
+        } else {
+            CoursePageDTO page = courseBrowsingService.getCoursePage(cursor, size);
+            courses = page.getCourses();
+            nextCursor = page.getNextCursor();
+        }
+
+        // The validator is derived from the rows being sent, so revalidating a page costs one
+        // keyset page query rather than an aggregate over the whole catalog. A 304 still saves
+        // the body. No Last-Modified here: deleting a course moves no timestamp.
+        String eTag = listETag(courses, nextCursor);
+        boolean notModified = request.checkNotModified(eTag);
+        ResponseEntity.BodyBuilder response = ResponseEntity
+                .status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(eTag);
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return notModified ? response.build() : response.body(courses);
+    }
+
+    /**
+     * Streams the full catalog with sections and articles as NDJSON, one course per line.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCourses() {
+        StreamingResponseBody body = courseExportService::exportCatalog;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(CourseExportService.NDJSON_MEDIA_TYPE))
+                .body(body);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<CourseListDTO>> searchCourses(String keyword) {
-        List<CourseListDTO> courses = courseBrowsingService.searchCourses(keyword);
+    public ResponseEntity<List<CourseListDTO>> searchCourses(String keyword,
+                                                             @RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(required = false) Integer size) {
+        List<CourseListDTO> courses = courseBrowsingService.searchCourses(keyword, page, size);
         return ResponseEntity.ok(courses);
     }
 
     @GetMapping("/{courseId}")
-    public ResponseEntity<CourseDetailDTO> getCourseById(Long id) {
-        CourseDetailDTO course = courseBrowsingService.getCourseById(id);
-        return ResponseEntity.ok(course);
+    public ResponseEntity<CourseDetailDTO> getCourseById(@PathVariable("courseId") Long id,
+                                                         @RequestParam(defaultValue = "false") boolean outline,
+                                                         WebRequest request) {
+        // Validate against the metadata row first so a 304 never loads sections or articles.
+        CourseVersion version = courseBrowsingService.getCourseVersion(id);
+        String eTag = courseETag(version);
+        long lastModified = lastModifiedMillis(version.updatedAt());
+        if (request.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).lastModified(lastModified).build();
+        }
+
+        CourseDetailDTO course = outline
+                ? courseBrowsingService.getCourseOutline(id)
+                : courseBrowsingService.getCourseById(id);
+        return ResponseEntity.ok().eTag(eTag).lastModified(lastModified).body(course);
+    }
+
+    /**
+     * Called by the enrollment flow for every new enrollment. Counted in memory and
+     * persisted in batches, so this never touches the course row.
+     */
+    @PostMapping("/{courseId}/enrollments")
+    public ResponseEntity<GenericResponse> recordEnrollment(@PathVariable Long courseId) {
+        enrollmentCounter.increment(courseId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new GenericResponse("Enrollment recorded"));
+    }
+
+    @GetMapping("/{courseId}/articles/{articleId}")
+    public ResponseEntity<ArticleDTO> getArticle(@PathVariable Long courseId, @PathVariable Long articleId) {
+        ArticleDTO article = courseBrowsingService.getArticle(courseId, articleId);
+        return ResponseEntity.ok(article);
+    }
+
+    /**
+     * The raw article body. A body stored gzip-compressed is sent as is, with Content-Encoding: gzip,
+     * to clients that accept gzip; everyone else gets it decompressed.
+     * Shared bodies carry their content hash as the ETag, so revalidation never reads the body twice.
+     */
+    @GetMapping("/{courseId}/articles/{articleId}/content")
+    public ResponseEntity<byte[]> getArticleContent(@PathVariable Long courseId, @PathVariable Long articleId,
+                                                    @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                                    String acceptEncoding,
+                                                    WebRequest request) {
+        ArticleContent content = courseBrowsingService.getArticleContent(courseId, articleId);
+        boolean sendGzip = content.isCompressed() && acceptsGzip(acceptEncoding);
+        // Each encoding is a different representation, so it gets its own entity tag.
+        String eTag = content.contentHash() == null ? null
+                : "\"" + content.contentHash() + (sendGzip ? "-gzip" : "") + "\"";
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(articleMediaType(content.contentType()))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (eTag != null) {
+            response.eTag(eTag);
+        }
+        if (sendGzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(content.compressedContent());
+        }
+        String text = content.text();
+        return response.body(text == null ? new byte[0] : text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MediaType articleMediaType(String contentType) {
+        MediaType type = switch (contentType == null ? "" : contentType.toUpperCase()) {
+            case "HTML" -> MediaType.TEXT_HTML;
+            case "MARKDOWN" -> MediaType.TEXT_MARKDOWN;
+            default -> MediaType.TEXT_PLAIN;
+        };
+        return new MediaType(type, StandardCharsets.UTF_8);
+    }
+
+    // True unless gzip is absent from Accept-Encoding or explicitly refused with q=0.
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        refused = Double.parseDouble(param.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        refused = true;
+                    }
+                }
+            }
+            if (!refused) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String courseETag(CourseVersion version) {
+        return "\"" + version.id() + "-" + lastModifiedMillis(version.updatedAt()) + "-" + version.contentVersion() + "\"";
+    }
+
+    // Every field a list item shows, plus the cursor, goes into the hash.
+    static String listETag(List<CourseListDTO> courses, String nextCursor) {
+        StringBuilder fields = new StringBuilder();
+        for (CourseListDTO course : courses) {
+            fields.append(course.getId()).append('\u001f')
+                    .append(course.getTitle()).append('\u001f')
+                    .append(course.getPrice()).append('\u001f')
+                    .append(course.getTutorName()).append('\u001f')
+                    .append(course.getEnrollmentCount()).append('\u001e');
+        }
+        fields.append(nextCursor);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fields.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"list-" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static long lastModifiedMillis(LocalDateTime updatedAt) {
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 }
@@ -0,0 +1,56 @@
+package id.ac.ui.cs.advprog.udehnihcourse.controller;
+
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationDecisionRequest;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationDecisionResponse;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationDetailResponse;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationQueuePage;
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import id.ac.ui.cs.advprog.udehnihcourse.service.TutorRegistrationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for Staff reviewing Tutor applications.
+ * Design Pattern: Controller (REST)
+ */
+@RestController
+@RequestMapping("/api/staff/tutor-applications")
+@RequiredArgsConstructor
+public class TutorApplicationReviewController {
+
+    private final TutorRegistrationService tutorRegistrationService;
+
+    @GetMapping
+    public ResponseEntity<TutorApplicationQueuePage> getReviewQueue(
+            @RequestParam(required = false) TutorRegistrationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        // TODO: Get staffId from Security Context and check the Staff role
+
+        TutorApplicationQueuePage page = tutorRegistrationService.getReviewQueue(status, cursor, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CourseManagementController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page);
+    }
+
+    @GetMapping("/{applicationId}")
+    public ResponseEntity<TutorApplicationDetailResponse> getApplication(@PathVariable Long applicationId) {
+        // TODO: Get staffId from Security Context and check the Staff role
+
+        return ResponseEntity.ok(tutorRegistrationService.getApplicationForReview(applicationId));
+    }
+
+    @PostMapping("/decisions")
+    public ResponseEntity<TutorApplicationDecisionResponse> decideApplications(
+            @RequestBody TutorApplicationDecisionRequest request) {
+        // TODO: Get staffId from Security Context and check the Staff role
+        String staffId = "staff-test";
+
+        TutorApplicationDecisionResponse response = tutorRegistrationService.decideRegistrationsByStaff(
+                request.getApplicationIds(), request.getStatus(), staffId);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,46 @@
+package id.ac.ui.cs.advprog.udehnihcourse.dto.course;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One line of a POST /api/courses/import body: a full course tree.
+ * Unknown fields are ignored, so lines from GET /api/courses/export can be imported as they are.
+ * Design Pattern: DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CourseImportRecord {
+    private String title;
+    private String description;
+    private String category;
+    private BigDecimal price;
+    private List<SectionRecord> sections = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SectionRecord {
+        private String title;
+        private List<ArticleRecord> articles = new ArrayList<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ArticleRecord {
+        private String title;
+        private String content;
+        private String contentType;
+    }
+}
@@ -0,0 +1,22 @@
+package id.ac.ui.cs.advprog.udehnihcourse.dto.course;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response of POST /api/courses/import: totals plus one result per non-blank input line, in line order.
+ * Design Pattern: DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseImportResponse {
+    private int imported;
+    private int failed;
+    private List<CourseImportResult> results;
+}
@@ -0,0 +1,35 @@
+package id.ac.ui.cs.advprog.udehnihcourse.dto.course;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one line of a course import: the created course id, or why the line was rejected.
+ * Design Pattern: DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseImportResult {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    private int line;
+    private Status status;
+    private Long courseId;
+    private String error;
+
+    public static CourseImportResult created(int line, Long courseId) {
+        return new CourseImportResult(line, Status.CREATED, courseId, null);
+    }
+
+    public static CourseImportResult failed(int line, String error) {
+        return new CourseImportResult(line, Status.FAILED, null, error);
+    }
+}
@@ -20,6 +20,6 @@ public class TutorCourseListItem {
     private String title;
     private String category;
     private BigDecimal price;
-    private int enrollmentCount;
+    private long enrollmentCount;
     private LocalDateTime createdAt;
 }
@@ -1,13 +1,17 @@
 package id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 /**
  * DTO to serve Article data to clients.
+ * content is left out of the JSON in course outlines.
  * Design Pattern: DTO
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @AllArgsConstructor
 @Builder
 @Data
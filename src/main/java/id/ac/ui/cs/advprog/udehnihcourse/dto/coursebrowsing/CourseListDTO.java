@@ -18,4 +18,5 @@ public class CourseListDTO {
     private String title;
     private BigDecimal price;
     private String tutorName;
+    private long enrollmentCount;
 }
@@ -0,0 +1,20 @@
+package id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO to serve one keyset page of the course catalog.
+ * nextCursor is null when there are no more pages.
+ * Design Pattern: DTO
+ */
+@AllArgsConstructor
+@Builder
+@Data
+public class CoursePageDTO {
+    private List<CourseListDTO> courses;
+    private String nextCursor;
+}
@@ -0,0 +1,17 @@
+package id.ac.ui.cs.advprog.udehnihcourse.dto.tutor;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO for a staff decision on many Tutor applications at once.
+ * Maps to POST /api/staff/tutor-applications/decisions body.
+ * Design Pattern: DTO
+ */
+@Data
+public class TutorApplicationDecisionRequest {
+    private List<Long> applicationIds;
+    private TutorRegistrationStatus status;
+}
@@ -0,0 +1,23 @@
+package id.ac.ui.cs.advprog.udehnihcourse.dto.tutor;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO to serve the result of a batch decision, one entry per distinct application id in request order.
+ * Design Pattern: DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutorApplicationDecisionResponse {
+    private TutorRegistrationStatus status;
+    private int applied;
+    private List<TutorApplicationDecisionResult> results;
+}
@@ -0,0 +1,26 @@
+package id.ac.ui.cs.advprog.udehnihcourse.dto.tutor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a batch decision for one application id.
+ * Design Pattern: DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutorApplicationDecisionResult {
+
+    public enum Outcome {
+        APPLIED,
+        ALREADY_PROCESSED,
+        NOT_FOUND
+    }
+
+    private Long applicationId;
+    private Outcome outcome;
+}
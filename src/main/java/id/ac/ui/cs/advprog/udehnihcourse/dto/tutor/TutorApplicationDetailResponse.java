@@ -0,0 +1,28 @@
+package id.ac.ui.cs.advprog.udehnihcourse.dto.tutor;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one tutor application opened by staff. Maps to GET /api/staff/tutor-applications/{applicationId}.
+ * Design Pattern: DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutorApplicationDetailResponse {
+    private Long applicationId;
+    private String studentId;
+    private TutorRegistrationStatus status;
+    private LocalDateTime submittedAt;
+    private LocalDateTime processedAt;
+    private String experience;
+    private String qualifications;
+    private String bio;
+}
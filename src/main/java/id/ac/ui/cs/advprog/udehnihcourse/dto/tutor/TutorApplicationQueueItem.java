@@ -0,0 +1,25 @@
+package id.ac.ui.cs.advprog.udehnihcourse.dto.tutor;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the staff review queue. Maps to GET /api/staff/tutor-applications items;
+ * the application text is only in TutorApplicationDetailResponse.
+ * Design Pattern: DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutorApplicationQueueItem {
+    private Long applicationId;
+    private String studentId;
+    private TutorRegistrationStatus status;
+    private LocalDateTime submittedAt;
+}
@@ -0,0 +1,20 @@
+package id.ac.ui.cs.advprog.udehnihcourse.dto.tutor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO to serve one keyset page of the staff review queue.
+ * nextCursor is null when there are no more pages.
+ * Design Pattern: DTO
+ */
+@AllArgsConstructor
+@Builder
+@Data
+public class TutorApplicationQueuePage {
+    private List<TutorApplicationQueueItem> applications;
+    private String nextCursor;
+}
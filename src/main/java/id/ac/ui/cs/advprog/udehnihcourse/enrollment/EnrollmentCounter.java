@@ -0,0 +1,170 @@
+package id.ac.ui.cs.advprog.udehnihcourse.enrollment;
+
+import id.ac.ui.cs.advprog.udehnihcourse.event.CourseChangedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.event.CourseEnrolledEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.model.CourseEnrollmentCount;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseEnrollmentCountRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind enrollment counts.
+ * Enrollments land on a per-course LongAdder, so a launch spike on one course never
+ * contends on a database row. A scheduled flush moves the accumulated deltas into
+ * course_enrollment_counts with one UPDATE per distinct delta, plus one INSERT per course
+ * flushed for the first time. The counts live outside the cached Course entity, so flushes
+ * leave the course region and the tutor query cache alone.
+ * Readers add pendingDelta to the persisted count; while a flush is committing,
+ * the merged value can briefly lag by the deltas being written.
+ */
+@Component
+public class EnrollmentCounter {
+
+    private final CourseRepository courseRepository;
+    private final CourseEnrollmentCountRepository countRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Lock flushLock = new ReentrantLock();
+
+    public EnrollmentCounter(CourseRepository courseRepository, CourseEnrollmentCountRepository countRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.courseRepository = courseRepository;
+        this.countRepository = countRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void increment(Long courseId) {
+        add(courseId, 1);
+    }
+
+    public void add(Long courseId, long delta) {
+        pending.computeIfAbsent(courseId, id -> new LongAdder()).add(delta);
+    }
+
+    public long pendingDelta(Long courseId) {
+        LongAdder adder = pending.get(courseId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Persisted plus pending count of each given course; courses never enrolled in map to 0.
+     */
+    public Map<Long, Long> enrollmentCounts(Collection<Long> courseIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (courseIds.isEmpty()) {
+            return counts;
+        }
+        for (Long courseId : courseIds) {
+            counts.put(courseId, pendingDelta(courseId));
+        }
+        for (CourseEnrollmentCount persisted : countRepository.findByCourseIdIn(courseIds)) {
+            counts.merge(persisted.getCourseId(), persisted.getEnrollmentCount(), Long::sum);
+        }
+        return counts;
+    }
+
+    @EventListener
+    public void onCourseEnrolled(CourseEnrolledEvent event) {
+        increment(event.courseId());
+    }
+
+    @TransactionalEventListener
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.type() == CourseChangedEvent.ChangeType.DELETED) {
+            pending.remove(event.courseId());
+        }
+    }
+
+    // Runs inside the deleting transaction, so the count row goes with the course.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCourseDeleting(CourseChangedEvent event) {
+        if (event.type() == CourseChangedEvent.ChangeType.DELETED) {
+            countRepository.deleteById(event.courseId());
+        }
+    }
+
+    /**
+     * Persists every pending delta. If the transaction fails the deltas are put back
+     * and retried on the next run, so no enrollment is lost.
+     */
+    @Scheduled(fixedDelayString = "${udehnih.enrollment.flush-interval:5s}")
+    @PreDestroy
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> deltas = drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(deltas));
+            } catch (RuntimeException e) {
+                deltas.forEach(this::add);
+                throw e;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                deltas.put(entry.getKey(), delta);
+            }
+        }
+        return deltas;
+    }
+
+    private void write(Map<Long, Long> deltas) {
+        // Most courses share a handful of deltas (usually 1), so grouping keeps the statement count low.
+        Map<Long, List<Long>> idsByDelta = new HashMap<>();
+        deltas.forEach((courseId, delta) -> idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(courseId));
+
+        int updated = 0;
+        for (Map.Entry<Long, List<Long>> group : idsByDelta.entrySet()) {
+            updated += countRepository.addEnrollments(group.getKey(), group.getValue());
+        }
+        if (updated < deltas.size()) {
+            insertMissingCounts(deltas);
+        }
+    }
+
+    // A course flushed for the first time has no count row yet. If another instance inserts it
+    // first, the transaction fails on the primary key and the deltas are retried as an UPDATE.
+    // Counts for ids that match no course row can never be written; stop tracking them.
+    private void insertMissingCounts(Map<Long, Long> deltas) {
+        Set<Long> uncounted = new HashSet<>(deltas.keySet());
+        uncounted.removeAll(countRepository.findCountedIds(deltas.keySet()));
+        Set<Long> existing = new HashSet<>(courseRepository.findExistingIds(uncounted));
+        for (Long courseId : uncounted) {
+            if (existing.contains(courseId)) {
+                countRepository.insertCount(courseId, deltas.get(courseId));
+            } else {
+                pending.remove(courseId);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package id.ac.ui.cs.advprog.udehnihcourse.event;
+
+/**
+ * Published by CourseManagementService whenever a course is created, updated or deleted.
+ * Listeners that keep derived state (search index, caches) should consume it after commit.
+ * Design Pattern: Observer (via Spring Events)
+ */
+public record CourseChangedEvent(Long courseId, String title, String category, ChangeType type) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static CourseChangedEvent created(Long courseId, String title, String category) {
+        return new CourseChangedEvent(courseId, title, category, ChangeType.CREATED);
+    }
+
+    public static CourseChangedEvent updated(Long courseId, String title, String category) {
+        return new CourseChangedEvent(courseId, title, category, ChangeType.UPDATED);
+    }
+
+    public static CourseChangedEvent deleted(Long courseId) {
+        return new CourseChangedEvent(courseId, null, null, ChangeType.DELETED);
+    }
+}
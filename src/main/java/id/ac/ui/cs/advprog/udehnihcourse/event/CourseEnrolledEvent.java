@@ -0,0 +1,9 @@
+package id.ac.ui.cs.advprog.udehnihcourse.event;
+
+/**
+ * Published once per new enrollment in a course. EnrollmentCounter absorbs it in memory;
+ * the persisted count catches up on the next flush.
+ * Design Pattern: Observer (via Spring Events)
+ */
+public record CourseEnrolledEvent(Long courseId) {
+}
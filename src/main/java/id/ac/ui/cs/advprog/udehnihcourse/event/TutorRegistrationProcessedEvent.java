@@ -0,0 +1,11 @@
+package id.ac.ui.cs.advprog.udehnihcourse.event;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+
+/**
+ * Published by TutorRegistrationService when staff accept or deny a tutor application.
+ * Listeners that keep derived state (the accepted-tutor set) should consume it after commit.
+ * Design Pattern: Observer (via Spring Events)
+ */
+public record TutorRegistrationProcessedEvent(Long applicationId, String studentId, TutorRegistrationStatus status) {
+}
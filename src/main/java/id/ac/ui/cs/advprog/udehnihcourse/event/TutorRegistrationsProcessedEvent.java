@@ -0,0 +1,11 @@
+package id.ac.ui.cs.advprog.udehnihcourse.event;
+
+import java.util.List;
+
+/**
+ * Published once by TutorRegistrationService for a staff batch decision, carrying every application
+ * the batch actually changed, so listeners apply the whole batch in one step after commit.
+ * Design Pattern: Observer (via Spring Events)
+ */
+public record TutorRegistrationsProcessedEvent(List<TutorRegistrationProcessedEvent> registrations) {
+}
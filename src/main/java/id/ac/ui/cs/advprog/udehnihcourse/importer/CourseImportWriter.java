@@ -0,0 +1,22 @@
+package id.ac.ui.cs.advprog.udehnihcourse.importer;
+
+import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseImportRecord;
+import org.hibernate.dialect.Dialect;
+
+import java.util.List;
+
+/**
+ * Strategy for writing a batch of imported course trees, picked by the active Hibernate dialect.
+ * Called inside a transaction opened by CourseImportService, one transaction per batch.
+ * Design Pattern: Strategy
+ */
+public interface CourseImportWriter {
+
+    boolean supports(Dialect dialect);
+
+    /**
+     * Inserts the courses with their sections and articles and returns the new course ids,
+     * in the order of the given records.
+     */
+    List<Long> write(List<CourseImportRecord> records, String tutorId);
+}
@@ -0,0 +1,186 @@
+package id.ac.ui.cs.advprog.udehnihcourse.importer;
+
+import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseImportRecord;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.model.CacheRegions;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleBodyStore;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * PostgreSQL import writer: streams each batch into courses, sections and articles with COPY FROM STDIN,
+ * one COPY per table, on the transaction's own connection.
+ * Ids are drawn from the entity sequences in the same 50-id blocks Hibernate's pooled optimizer uses,
+ * so they never collide with ids Hibernate hands out. Article bodies are interned in ArticleBodyStore
+ * before the COPY, so the copied articles only carry the shared body's hash, as with the JPA writer.
+ * COPY bypasses Hibernate, so the tutor query cache region is evicted after commit.
+ */
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class PostgresCopyCourseImportWriter implements CourseImportWriter {
+
+    // Must match allocationSize of the @SequenceGenerator on Course, Section and Article.
+    static final int ALLOCATION_SIZE = 50;
+
+    // Column lists are checked against the entity mapping by PostgresCopyCourseImportWriterTest.
+    static final String COPY_COURSES = "COPY courses (id, title, description, category, tutor_id, price, "
+            + "created_at, updated_at, content_version) FROM STDIN WITH (FORMAT csv)";
+    static final String COPY_SECTIONS = "COPY sections (id, title, course_id) FROM STDIN WITH (FORMAT csv)";
+    static final String COPY_ARTICLES = "COPY articles (id, title, content_type, section_id, body_hash) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    private final EntityManager entityManager;
+    private final ArticleBodyStore articleBodyStore;
+
+    @Override
+    public boolean supports(Dialect dialect) {
+        return dialect instanceof PostgreSQLDialect;
+    }
+
+    @Override
+    public List<Long> write(List<CourseImportRecord> records, String tutorId) {
+        Session session = entityManager.unwrap(Session.class);
+        Iterator<String> bodyHashes = internBodies(records).iterator();
+        List<Long> courseIds = session.doReturningWork(connection -> copy(connection, records, tutorId, bodyHashes));
+        SessionFactory sessionFactory = session.getSessionFactory();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sessionFactory.getCache().evictQueryRegion(CacheRegions.COURSES_BY_TUTOR_QUERY);
+            }
+        });
+        return courseIds;
+    }
+
+    /**
+     * Returns the shared body hash of every article in import order, null for an article without a body.
+     * The transient articles only carry the content into ArticleBodyStore and are never persisted.
+     */
+    private List<String> internBodies(List<CourseImportRecord> records) {
+        List<Article> articles = new ArrayList<>();
+        for (CourseImportRecord record : records) {
+            for (CourseImportRecord.SectionRecord section : record.getSections()) {
+                for (CourseImportRecord.ArticleRecord articleRecord : section.getArticles()) {
+                    Article article = new Article();
+                    article.setContent(articleRecord.getContent());
+                    articles.add(article);
+                }
+            }
+        }
+        articleBodyStore.intern(articles);
+        return articles.stream().map(article -> article.getBody() == null ? null : article.getBody().getHash()).toList();
+    }
+
+    private static List<Long> copy(Connection connection, List<CourseImportRecord> records, String tutorId,
+                                   Iterator<String> bodyHashes) throws SQLException {
+        int sectionCount = 0;
+        int articleCount = 0;
+        for (CourseImportRecord record : records) {
+            sectionCount += record.getSections().size();
+            for (CourseImportRecord.SectionRecord section : record.getSections()) {
+                articleCount += section.getArticles().size();
+            }
+        }
+        List<Long> courseIds = allocateIds(connection, "courses_seq", records.size());
+        Iterator<Long> sectionIds = allocateIds(connection, "sections_seq", sectionCount).iterator();
+        Iterator<Long> articleIds = allocateIds(connection, "articles_seq", articleCount).iterator();
+
+        String now = LocalDateTime.now().toString();
+        StringBuilder courses = new StringBuilder();
+        StringBuilder sections = new StringBuilder();
+        StringBuilder articles = new StringBuilder();
+        for (int i = 0; i < records.size(); i++) {
+            CourseImportRecord record = records.get(i);
+            Long courseId = courseIds.get(i);
+            BigDecimal price = record.getPrice() == null ? BigDecimal.ZERO : record.getPrice();
+            row(courses, courseId, record.getTitle(), record.getDescription(), record.getCategory(), tutorId,
+                    price.toPlainString(), now, now, 0);
+            for (CourseImportRecord.SectionRecord section : record.getSections()) {
+                Long sectionId = sectionIds.next();
+                row(sections, sectionId, section.getTitle(), courseId);
+                for (CourseImportRecord.ArticleRecord article : section.getArticles()) {
+                    String contentType = article.getContentType() == null ? "TEXT" : article.getContentType();
+                    row(articles, articleIds.next(), article.getTitle(), contentType, sectionId, bodyHashes.next());
+                }
+            }
+        }
+
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        copyIn(copyManager, COPY_COURSES, courses);
+        copyIn(copyManager, COPY_SECTIONS, sections);
+        copyIn(copyManager, COPY_ARTICLES, articles);
+        return courseIds;
+    }
+
+    /**
+     * Each nextval reserves the block (value - 49, value], exactly as the pooled optimizer reads it.
+     */
+    static List<Long> allocateIds(Connection connection, String sequence, int count) throws SQLException {
+        List<Long> ids = new ArrayList<>(count);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT nextval(CAST(? AS regclass)) FROM generate_series(1, ?)")) {
+            while (ids.size() < count) {
+                statement.setString(1, sequence);
+                statement.setInt(2, (count - ids.size()) / ALLOCATION_SIZE + 1);
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        long hi = rows.getLong(1);
+                        for (long id = Math.max(1, hi - ALLOCATION_SIZE + 1); id <= hi && ids.size() < count; id++) {
+                            ids.add(id);
+                        }
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void copyIn(CopyManager copyManager, String sql, CharSequence rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            copyManager.copyIn(sql, new StringReader(rows.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // CSV row: null is an unquoted empty field (NULL to COPY), everything else is quoted.
+    private static void row(StringBuilder out, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            Object value = values[i];
+            if (value != null) {
+                out.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+            }
+        }
+        out.append('\n');
+    }
+}
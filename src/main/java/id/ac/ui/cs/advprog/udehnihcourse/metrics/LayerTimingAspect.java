@@ -0,0 +1,79 @@
+package id.ac.ui.cs.advprog.udehnihcourse.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every public service method and every repository call.
+ * Timers are udehnih.service.calls and udehnih.repository.calls, tagged with
+ * class, method, outcome (success/error) and exception, and publish percentile histograms.
+ */
+@Aspect
+public class LayerTimingAspect {
+
+    static final String SERVICE_TIMER = "udehnih.service.calls";
+    static final String REPOSITORY_TIMER = "udehnih.repository.calls";
+
+    private static final String REPOSITORY_PACKAGE = "id.ac.ui.cs.advprog.udehnihcourse.repository";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public LayerTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * *(..)) && ("
+            + "within(id.ac.ui.cs.advprog.udehnihcourse.service.CourseBrowsingService)"
+            + " || within(id.ac.ui.cs.advprog.udehnihcourse.service.CourseManagementService)"
+            + " || within(id.ac.ui.cs.advprog.udehnihcourse.service.TutorRegistrationService))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, SERVICE_TIMER, joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    // Spring Data repository beans are named after their interface, e.g. courseRepository.
+    @Around("bean(*Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, REPOSITORY_TIMER, repositoryName(joinPoint.getThis().getClass()));
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String timerName, String className) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(timerName)
+                    .tag("class", className)
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    // The proxy's own class is synthetic; report the repository interface it implements instead.
+    private String repositoryName(Class<?> proxyClass) {
+        return repositoryNames.computeIfAbsent(proxyClass, type -> {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (candidate.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
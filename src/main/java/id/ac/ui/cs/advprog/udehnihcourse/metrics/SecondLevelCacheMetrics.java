@@ -0,0 +1,69 @@
+package id.ac.ui.cs.advprog.udehnihcourse.metrics;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.CacheRegions;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Per-region Hibernate second-level cache metrics: udehnih.cache.region.requests (hit/miss),
+ * udehnih.cache.region.puts and udehnih.cache.region.hit.ratio, all tagged with region.
+ * Needs hibernate.generate_statistics=true (UDEHNIH_HIBERNATE_STATISTICS); otherwise every meter reads 0. Regions are looked up on every read because
+ * Hibernate only creates a query cache region the first time a query uses it.
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    static final List<String> REGIONS = List.of(
+            CacheRegions.COURSE, CacheRegions.COURSE_SECTIONS, CacheRegions.SECTION,
+            CacheRegions.SECTION_ARTICLES, CacheRegions.ARTICLE, CacheRegions.ARTICLE_BODY,
+            CacheRegions.COURSES_BY_TUTOR_QUERY);
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : REGIONS) {
+            counter("udehnih.cache.region.requests", region, CacheRegionStatistics::getHitCount)
+                    .tag("result", "hit").register(registry);
+            counter("udehnih.cache.region.requests", region, CacheRegionStatistics::getMissCount)
+                    .tag("result", "miss").register(registry);
+            counter("udehnih.cache.region.puts", region, CacheRegionStatistics::getPutCount)
+                    .register(registry);
+            Gauge.builder("udehnih.cache.region.hit.ratio", this, metrics -> metrics.hitRatio(region))
+                    .description("Share of second-level cache lookups answered from the region")
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    double hitRatio(String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long hits = regionStatistics.getHitCount();
+        long lookups = hits + regionStatistics.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+
+    private FunctionCounter.Builder<SecondLevelCacheMetrics> counter(String name, String region,
+                                                                   ToLongFunction<CacheRegionStatistics> value) {
+        return FunctionCounter.builder(name, this, metrics -> {
+                    CacheRegionStatistics regionStatistics = metrics.statistics.getCacheRegionStatistics(region);
+                    return regionStatistics == null ? 0 : value.applyAsLong(regionStatistics);
+                })
+                .tag("region", region);
+    }
+}
@@ -0,0 +1,49 @@
+package id.ac.ui.cs.advprog.udehnihcourse.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each HTTP request ran, as the udehnih.http.sql.statements
+ * distribution tagged with method and uri template. A high p99 on one uri points at an N+1.
+ */
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    static final String SUMMARY = "udehnih.http.sql.statements";
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementCountFilter(SqlStatementCounter counter, MeterRegistry meterRegistry) {
+        this.counter = counter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        counter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = counter.end();
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(SUMMARY)
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri == null ? "UNKNOWN" : uri.toString())
+                    .publishPercentileHistogram()
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+}
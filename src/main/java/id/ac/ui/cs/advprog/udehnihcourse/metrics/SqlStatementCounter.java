@@ -0,0 +1,34 @@
+package id.ac.ui.cs.advprog.udehnihcourse.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between begin and end.
+ * Registered as Hibernate's StatementInspector; SqlStatementCountFilter brackets each HTTP request.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private final transient ThreadLocal<int[]> current = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = current.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public void begin() {
+        current.set(new int[1]);
+    }
+
+    /**
+     * Stops counting on this thread and returns the number of statements since begin.
+     */
+    public int end() {
+        int[] count = current.get();
+        current.remove();
+        return count == null ? 0 : count[0];
+    }
+}
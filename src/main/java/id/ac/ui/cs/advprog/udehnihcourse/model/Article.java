@@ -1,15 +1,22 @@
 package id.ac.ui.cs.advprog.udehnihcourse.model;
 
 import jakarta.persistence.*;
+import org.hibernate.Length;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.util.Objects;
+
 /**
  * Represents an Article (Content unit) within a Section.
  * Design Pattern: Entity (Domain Model)
  */
 @Entity
+@EntityListeners(ArticleContentCompressionListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ARTICLE)
 @Table(name = "articles")
 @Data
 @NoArgsConstructor
@@ -17,16 +24,26 @@ import lombok.AllArgsConstructor;
 public class Article {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_id_seq")
+    @SequenceGenerator(name = "article_id_seq", sequenceName = "articles_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     private String title;
 
+    // Null while the body is stored compressed; read it through getContent().
     @Lob
-    @Column(nullable = false, columnDefinition = "TEXT")
+    @Column(columnDefinition = "TEXT")
     private String content;
 
+    @Column(name = "content_compressed", length = Length.LONG32)
+    private byte[] compressedContent;
+
+    // Rows written before compression existed have no codec; they are PLAIN.
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_codec", length = 16)
+    private ArticleContentCodec contentCodec = ArticleContentCodec.PLAIN;
+
     @Column(name = "content_type")
     private String contentType = "TEXT";
 
@@ -34,6 +51,92 @@ public class Article {
     @JoinColumn(name = "section_id", nullable = false)
     private Section section;
 
+    // Shared, content-addressed body. When set, the inline content columns above are empty.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "body_hash")
+    private ArticleBody body;
+
+    /**
+     * The article body, decompressed if it is stored compressed.
+     */
+    public String getContent() {
+        if (body != null) {
+            return body.getContent();
+        }
+        if (contentCodec == ArticleContentCodec.GZIP) {
+            return ArticleContentCodec.gunzip(compressedContent);
+        }
+        return content;
+    }
+
+    // Edits bump the course's content version here, not in a @PreUpdate callback: Hibernate calls
+    // that during flush, after the course has been dirty-checked, so the bump would never be written.
+    public void setTitle(String title) {
+        if (!Objects.equals(this.title, title)) {
+            this.title = title;
+            touchCourseContent();
+        }
+    }
+
+    public void setContentType(String contentType) {
+        if (!Objects.equals(this.contentType, contentType)) {
+            this.contentType = contentType;
+            touchCourseContent();
+        }
+    }
+
+    /**
+     * Replaces the body, stored plain until ArticleContentCompressionListener or the migration compresses it.
+     */
+    public void setContent(String content) {
+        if (section != null && !Objects.equals(getContent(), content)) {
+            touchCourseContent();
+        }
+        this.body = null;
+        this.content = content;
+        this.compressedContent = null;
+        this.contentCodec = ArticleContentCodec.PLAIN;
+    }
+
+    /**
+     * Points this article at a shared body and clears the inline copy. Reference counts are
+     * kept by ArticleBodyStore, which is the caller.
+     */
+    public void useBody(ArticleBody body) {
+        this.body = body;
+        this.content = null;
+        this.compressedContent = null;
+        this.contentCodec = ArticleContentCodec.PLAIN;
+    }
+
+    public boolean isCompressed() {
+        return contentCodec == ArticleContentCodec.GZIP;
+    }
+
+    /**
+     * Moves a plain inline body into the compressed column. Does nothing if it is already compressed,
+     * empty, or held in a shared ArticleBody.
+     */
+    public void compressContent() {
+        if (body != null || isCompressed() || content == null) {
+            return;
+        }
+        compressedContent = ArticleContentCodec.gzip(content);
+        content = null;
+        contentCodec = ArticleContentCodec.GZIP;
+    }
+
+    /**
+     * Bumps the owning course's content version. The setters and removal call this; storage-only
+     * changes such as compression or moving the body into an ArticleBody leave it alone.
+     */
+    @PreRemove
+    public void touchCourseContent() {
+        if (section != null) {
+            section.touchCourseContent();
+        }
+    }
+
     @Override
     public String toString() {
         return "Article{" +
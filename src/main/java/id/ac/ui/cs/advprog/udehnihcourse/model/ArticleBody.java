@@ -0,0 +1,121 @@
+package id.ac.ui.cs.advprog.udehnihcourse.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.Length;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * An article body stored once, keyed by the SHA-256 of its text. Articles with identical bodies
+ * share one row, so the text is stored, cached and hashed once; the hash doubles as the ETag.
+ * Rows never change after insert. How many articles point at a row is kept in ArticleBodyRefCount,
+ * a separate table, so counting references never invalidates this cache region.
+ * Design Pattern: Entity (Value Object, content-addressed)
+ */
+@Entity
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = CacheRegions.ARTICLE_BODY)
+@BatchSize(size = 50)
+@Table(name = "article_bodies")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleBody {
+
+    public static final int HASH_LENGTH = 64;
+
+    @Id
+    @Column(length = HASH_LENGTH)
+    private String hash;
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "content_compressed", length = Length.LONG32)
+    private byte[] compressedContent;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_codec", length = 16, nullable = false)
+    private ArticleContentCodec contentCodec;
+
+    // In characters, before compression.
+    @Column(name = "content_length", nullable = false)
+    private int contentLength;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public static ArticleBody of(String content, boolean compress) {
+        return of(hash(content), content, compress);
+    }
+
+    /**
+     * For callers that already hashed the text; the hash must be hash(content).
+     */
+    public static ArticleBody of(String hash, String content, boolean compress) {
+        ArticleBody body = new ArticleBody();
+        body.hash = hash;
+        body.contentLength = content.length();
+        if (compress) {
+            body.compressedContent = ArticleContentCodec.gzip(content);
+            body.contentCodec = ArticleContentCodec.GZIP;
+        } else {
+            body.content = content;
+            body.contentCodec = ArticleContentCodec.PLAIN;
+        }
+        return body;
+    }
+
+    /**
+     * Lowercase hex SHA-256 of the UTF-8 bytes of the text.
+     */
+    public static String hash(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public String getContent() {
+        if (contentCodec == ArticleContentCodec.GZIP) {
+            return ArticleContentCodec.gunzip(compressedContent);
+        }
+        return content;
+    }
+
+    public boolean isCompressed() {
+        return contentCodec == ArticleContentCodec.GZIP;
+    }
+
+    @Override
+    public String toString() {
+        return "ArticleBody{hash='" + hash + "', contentLength=" + contentLength + '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return hash != null && hash.equals(((ArticleBody) o).hash);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
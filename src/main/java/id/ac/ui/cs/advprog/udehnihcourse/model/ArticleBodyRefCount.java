@@ -0,0 +1,28 @@
+package id.ac.ui.cs.advprog.udehnihcourse.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of articles pointing at an ArticleBody. Only ever changed by atomic UPDATE statements
+ * in ArticleBodyRefCountRepository, so concurrent writers cannot lose increments.
+ */
+@Entity
+@Table(name = "article_body_ref_counts")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleBodyRefCount {
+
+    @Id
+    @Column(length = ArticleBody.HASH_LENGTH)
+    private String hash;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+}
@@ -0,0 +1,42 @@
+package id.ac.ui.cs.advprog.udehnihcourse.model;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Compresses article bodies of at least udehnih.article.compression.min-size characters on write,
+ * when udehnih.article.compression.enabled is true.
+ * Hibernate obtains this listener from Spring, which supplies the settings; outside Spring
+ * (a bare SessionFactory) the no-argument constructor leaves compression off.
+ */
+public class ArticleContentCompressionListener {
+
+    private final boolean enabled;
+    private final int minSize;
+
+    public ArticleContentCompressionListener() {
+        this(false, Integer.MAX_VALUE);
+    }
+
+    @Autowired
+    public ArticleContentCompressionListener(@Value("${udehnih.article.compression.enabled:false}") boolean enabled,
+                                             @Value("${udehnih.article.compression.min-size:1024}") int minSize) {
+        this.enabled = enabled;
+        this.minSize = minSize;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void compress(Article article) {
+        if (shouldCompress(article)) {
+            article.compressContent();
+        }
+    }
+
+    public boolean shouldCompress(Article article) {
+        return enabled && article.getBody() == null && !article.isCompressed() && article.getContent() != null
+                && article.getContent().length() >= minSize;
+    }
+}
@@ -0,0 +1,19 @@
+package id.ac.ui.cs.advprog.udehnihcourse.model;
+
+/**
+ * Hibernate second-level cache region names for the Course/Section/Article aggregate.
+ * Each region is sized separately in hibernate-jcache.conf.
+ */
+public final class CacheRegions {
+
+    public static final String COURSE = "course";
+    public static final String COURSE_SECTIONS = "course-sections";
+    public static final String SECTION = "section";
+    public static final String SECTION_ARTICLES = "section-articles";
+    public static final String ARTICLE = "article";
+    public static final String ARTICLE_BODY = "article-body";
+    public static final String COURSES_BY_TUTOR_QUERY = "courses-by-tutor";
+
+    private CacheRegions() {
+    }
+}
@@ -2,6 +2,8 @@ package id.ac.ui.cs.advprog.udehnihcourse.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,15 +21,20 @@ import java.util.ArrayList;
  * Design Pattern: Builder (via Lombok @Builder) - For flexible object creation.
  */
 @Entity
-@Table(name = "courses")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COURSE)
+@Table(name = "courses", indexes = {
+        @Index(name = "idx_courses_created_at_id", columnList = "created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Course {
 
+    // Pooled sequence: ids are reserved 50 at a time, which lets Hibernate batch the inserts.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_id_seq")
+    @SequenceGenerator(name = "course_id_seq", sequenceName = "courses_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -54,6 +61,14 @@ public class Course {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Bumped whenever a section or article of this course changes, so validators built
+    // from updatedAt and this version change with the whole course tree.
+    // The database default lets ddl-auto=update add the column to a populated courses table.
+    @Default
+    @Column(name = "content_version", nullable = false, columnDefinition = "bigint default 0")
+    private long contentVersion = 0L;
+
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COURSE_SECTIONS)
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Default
     private List<Section> sections = new ArrayList<>();
@@ -61,15 +76,16 @@ public class Course {
     public void addSection(Section section) {
         sections.add(section);
         section.setCourse(this);
+        touchContent();
     }
 
     public void removeSection(Section section) {
         sections.remove(section);
         section.setCourse(null);
+        touchContent();
     }
 
-    // TODO: implement logic-nya
-    @Transient
-    @Default
-    private int enrollmentCount = 0;
+    public void touchContent() {
+        contentVersion++;
+    }
 }
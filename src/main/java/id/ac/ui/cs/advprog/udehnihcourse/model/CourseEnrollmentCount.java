@@ -0,0 +1,30 @@
+package id.ac.ui.cs.advprog.udehnihcourse.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Persisted enrollment count of one course, written only by EnrollmentCounter's batched flush.
+ * Kept out of Course on purpose: it is not second-level cached, so the bulk UPDATE behind each
+ * flush invalidates this table's query spaces instead of the course region and the tutor query cache.
+ * A course without a row has no persisted enrollments yet.
+ */
+@Entity
+@Table(name = "course_enrollment_counts")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseEnrollmentCount {
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "enrollment_count", nullable = false)
+    private long enrollmentCount;
+}
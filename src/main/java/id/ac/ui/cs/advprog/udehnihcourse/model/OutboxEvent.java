@@ -0,0 +1,68 @@
+package id.ac.ui.cs.advprog.udehnihcourse.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change waiting to be delivered to the outbox sinks. Written in the same transaction as the
+ * change it describes, and deleted by OutboxRelay once every sink has accepted it.
+ * Design Pattern: Transactional Outbox
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        // Relay claim: due rows, oldest first.
+        @Index(name = "idx_outbox_events_available_at_id", columnList = "available_at, id")
+})
+@Data
+@NoArgsConstructor
+public class OutboxEvent {
+
+    public static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_id_seq")
+    @SequenceGenerator(name = "outbox_event_id_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 64)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public OutboxEvent(String aggregateType, String aggregateId, String eventType, String payload, LocalDateTime createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+        this.availableAt = createdAt;
+    }
+
+    public void recordFailure(String error, LocalDateTime retryAt) {
+        attempts++;
+        lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        availableAt = retryAt;
+    }
+}
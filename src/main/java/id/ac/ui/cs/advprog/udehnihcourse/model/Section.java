@@ -2,16 +2,20 @@ package id.ac.ui.cs.advprog.udehnihcourse.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Objects;
 
 /**
  * Represents a Section (Chapter/Module) within a Course.
  * Design Pattern: Entity (Domain Model)
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SECTION)
 @Table(name = "sections")
 @Data
 @NoArgsConstructor
@@ -19,7 +23,8 @@ import java.util.ArrayList;
 public class Section {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "section_id_seq")
+    @SequenceGenerator(name = "section_id_seq", sequenceName = "sections_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -29,17 +34,38 @@ public class Section {
     @JoinColumn(name = "course_id", nullable = false)
     private Course course;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SECTION_ARTICLES)
     @OneToMany(mappedBy = "section", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Article> articles = new ArrayList<>();
 
+    public void setTitle(String title) {
+        if (!Objects.equals(this.title, title)) {
+            this.title = title;
+            touchCourseContent();
+        }
+    }
+
     public void addArticle(Article article) {
         articles.add(article);
         article.setSection(this);
+        touchCourseContent();
     }
 
     public void removeArticle(Article article) {
         articles.remove(article);
         article.setSection(null);
+        touchCourseContent();
+    }
+
+    /**
+     * Bumps the parent course's content version. Called on edits and removal of this section
+     * and its articles.
+     */
+    @PreRemove
+    public void touchCourseContent() {
+        if (course != null) {
+            course.touchContent();
+        }
     }
 
     @Override
@@ -12,14 +12,18 @@ import java.time.LocalDateTime;
  * Design Pattern: Entity (Domain Model) - Represents core domain data.
  */
 @Entity
-@Table(name = "tutor_applications")
+@Table(name = "tutor_applications", indexes = {
+        // Staff review queue: one status, oldest first, keyset-paged on (submitted_at, application_id).
+        @Index(name = "idx_tutor_applications_status_submitted_id", columnList = "status, submitted_at, application_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class TutorRegistration {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tutor_application_id_seq")
+    @SequenceGenerator(name = "tutor_application_id_seq", sequenceName = "tutor_applications_seq", allocationSize = 50)
     @Column(name = "application_id")
     private Long id;
 
@@ -0,0 +1,24 @@
+package id.ac.ui.cs.advprog.udehnihcourse.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands every outbox message to in-process @EventListener methods for OutboxMessage, on the relay thread.
+ * A listener that throws fails the delivery, so the message is retried.
+ * Useful in tests and for consumers living in this service; external brokers get their own OutboxSink.
+ */
+@Component
+@ConditionalOnProperty(name = "udehnih.outbox.sink.in-process.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InProcessOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void deliver(OutboxMessage message) {
+        eventPublisher.publishEvent(message);
+    }
+}
@@ -0,0 +1,11 @@
+package id.ac.ui.cs.advprog.udehnihcourse.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * What an OutboxSink receives. id is stable across redeliveries, so sinks can deduplicate on it;
+ * attempt is 1 on the first delivery.
+ */
+public record OutboxMessage(Long id, String aggregateType, String aggregateId, String eventType,
+                            String payload, LocalDateTime createdAt, int attempt) {
+}
@@ -0,0 +1,142 @@
+package id.ac.ui.cs.advprog.udehnihcourse.outbox;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.OutboxEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains outbox_events to every OutboxSink, one transaction per batch.
+ * A batch is claimed with FOR UPDATE SKIP LOCKED, so several instances can relay side by side
+ * without delivering the same row concurrently. Rows are deleted only after all sinks accepted them
+ * in the same transaction, which makes delivery at least once: a crash before commit redelivers the batch.
+ * A failed row is kept and retried after retry-backoff times its attempt count.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    public static final String DELIVERED_COUNTER = "udehnih.outbox.delivered";
+    public static final String FAILURES_COUNTER = "udehnih.outbox.failures";
+    public static final String LAG_GAUGE = "udehnih.outbox.lag";
+
+    static final int MAX_BACKOFF_MULTIPLIER = 60;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retryBackoff;
+    private final Clock clock;
+
+    private final Counter delivered;
+    private final Counter failures;
+
+    private volatile double lagSeconds;
+
+    private record BatchResult(int claimed, int delivered, int failed) {
+    }
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       ObjectProvider<OutboxSink> sinks,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${udehnih.outbox.batch-size:100}") int batchSize,
+                       @Value("${udehnih.outbox.retry-backoff:10s}") Duration retryBackoff) {
+        this(outboxEventRepository, sinks.orderedStream().toList(), transactionManager, meterRegistry,
+                batchSize, retryBackoff, Clock.systemDefaultZone());
+    }
+
+    OutboxRelay(OutboxEventRepository outboxEventRepository, List<OutboxSink> sinks,
+                PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                int batchSize, Duration retryBackoff, Clock clock) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sinks = List.copyOf(sinks);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retryBackoff = retryBackoff;
+        this.clock = clock;
+        this.delivered = Counter.builder(DELIVERED_COUNTER)
+                .description("Outbox events delivered to every sink and removed from the outbox")
+                .register(meterRegistry);
+        this.failures = Counter.builder(FAILURES_COUNTER)
+                .description("Outbox deliveries that failed and were scheduled for retry")
+                .register(meterRegistry);
+        Gauge.builder(LAG_GAUGE, this, relay -> relay.lagSeconds)
+                .description("Age of the oldest undelivered outbox event as of the last relay run")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${udehnih.outbox.relay-interval:1s}",
+            fixedDelayString = "${udehnih.outbox.relay-interval:1s}")
+    public void relay() {
+        if (!sinks.isEmpty()) {
+            // A full batch means more may be due; keep going until a short one.
+            int claimed;
+            do {
+                claimed = relayBatch();
+            } while (claimed == batchSize);
+        }
+        updateLag();
+    }
+
+    /**
+     * Claims, delivers and removes one batch. Returns how many rows were claimed.
+     */
+    int relayBatch() {
+        BatchResult result = transactionTemplate.execute(status -> deliverBatch());
+        delivered.increment(result.delivered());
+        failures.increment(result.failed());
+        return result.claimed();
+    }
+
+    private BatchResult deliverBatch() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxEvent> batch = outboxEventRepository.claimDue(now, Limit.of(batchSize));
+        List<OutboxEvent> done = new ArrayList<>(batch.size());
+        int failed = 0;
+        for (OutboxEvent event : batch) {
+            OutboxMessage message = new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                    event.getEventType(), event.getPayload(), event.getCreatedAt(), event.getAttempts() + 1);
+            try {
+                for (OutboxSink sink : sinks) {
+                    sink.deliver(message);
+                }
+                done.add(event);
+            } catch (RuntimeException e) {
+                long multiplier = Math.min(event.getAttempts() + 1, MAX_BACKOFF_MULTIPLIER);
+                event.recordFailure(e.toString(), now.plus(retryBackoff.multipliedBy(multiplier)));
+                failed++;
+                log.warn("Outbox event {} ({}) failed delivery attempt {}: {}",
+                        event.getId(), event.getEventType(), message.attempt(), e.toString());
+            }
+        }
+        if (!done.isEmpty()) {
+            outboxEventRepository.deleteAllInBatch(done);
+        }
+        return new BatchResult(batch.size(), done.size(), failed);
+    }
+
+    private void updateLag() {
+        LocalDateTime oldest = outboxEventRepository.findOldestCreatedAt();
+        lagSeconds = oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now(clock)).toMillis() / 1000.0);
+    }
+}
@@ -0,0 +1,15 @@
+package id.ac.ui.cs.advprog.udehnihcourse.outbox;
+
+/**
+ * Destination for outbox messages. Every OutboxSink bean receives every message.
+ * Delivery is at least once: a message is retried until all sinks accept it,
+ * so a sink may see the same message id again and must tolerate that.
+ * Design Pattern: Strategy
+ */
+public interface OutboxSink {
+
+    /**
+     * Delivers one message. Throwing marks the message failed; it is retried after a backoff.
+     */
+    void deliver(OutboxMessage message);
+}
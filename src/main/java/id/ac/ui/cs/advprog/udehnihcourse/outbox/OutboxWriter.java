@@ -0,0 +1,73 @@
+package id.ac.ui.cs.advprog.udehnihcourse.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.ac.ui.cs.advprog.udehnihcourse.event.CourseChangedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.event.TutorRegistrationProcessedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.event.TutorRegistrationsProcessedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.model.OutboxEvent;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Records course and tutor-registration changes in outbox_events. Runs just before the publishing
+ * transaction commits, inside it, so a change and its outbox row are committed or rolled back together.
+ * Delivery is left to OutboxRelay.
+ */
+@Component
+public class OutboxWriter {
+
+    public static final String COURSE_AGGREGATE = "course";
+    public static final String TUTOR_REGISTRATION_AGGREGATE = "tutor-registration";
+    public static final String TUTOR_REGISTRATION_PROCESSED = "tutor-registration.processed";
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Autowired
+    public OutboxWriter(EntityManager entityManager, ObjectMapper objectMapper) {
+        this(entityManager, objectMapper, Clock.systemDefaultZone());
+    }
+
+    OutboxWriter(EntityManager entityManager, ObjectMapper objectMapper, Clock clock) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCourseChanged(CourseChangedEvent event) {
+        append(COURSE_AGGREGATE, event.courseId(),
+                COURSE_AGGREGATE + "." + event.type().name().toLowerCase(Locale.ROOT), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onRegistrationProcessed(TutorRegistrationProcessedEvent event) {
+        append(TUTOR_REGISTRATION_AGGREGATE, event.applicationId(), TUTOR_REGISTRATION_PROCESSED, event);
+    }
+
+    // One row per application, so consumers see the same message whether staff decided singly or in a batch.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onRegistrationsProcessed(TutorRegistrationsProcessedEvent event) {
+        event.registrations().forEach(this::onRegistrationProcessed);
+    }
+
+    private void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + eventType + " for the outbox", e);
+        }
+        entityManager.persist(new OutboxEvent(aggregateType, String.valueOf(aggregateId), eventType, json,
+                LocalDateTime.now(clock)));
+    }
+}
@@ -0,0 +1,35 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.ArticleBodyRefCount;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArticleBodyRefCountRepository extends JpaRepository<ArticleBodyRefCount, String> {
+
+    // Returns 0 when the body does not exist (never created, or garbage collected).
+    @Modifying
+    @Query("UPDATE ArticleBodyRefCount r SET r.refCount = r.refCount + :delta WHERE r.hash = :hash")
+    int addReferences(@Param("hash") String hash, @Param("delta") long delta);
+
+    // Repairs counts that drifted, e.g. from articles edited through Article.setContent directly.
+    @Modifying
+    @Query("UPDATE ArticleBodyRefCount r SET r.refCount = "
+            + "(SELECT count(a) FROM Article a WHERE a.body.hash = r.hash) WHERE r.hash IN :hashes")
+    int recount(@Param("hashes") Collection<String> hashes);
+
+    // Deletes the count only while it is still unused; the row lock orders this against addReferences.
+    @Modifying
+    @Query("DELETE FROM ArticleBodyRefCount r WHERE r.hash = :hash AND r.refCount <= 0")
+    int deleteIfUnreferenced(@Param("hash") String hash);
+
+    @Query("SELECT r.hash FROM ArticleBodyRefCount r WHERE r.hash > :afterHash ORDER BY r.hash")
+    List<String> findHashesAfter(@Param("afterHash") String afterHash, Limit limit);
+}
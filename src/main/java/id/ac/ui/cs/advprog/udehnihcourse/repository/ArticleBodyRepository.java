@@ -0,0 +1,31 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.ArticleBody;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArticleBodyRepository extends JpaRepository<ArticleBody, String> {
+
+    // Garbage collection candidates: counted as unused and older than the grace period.
+    @Query("SELECT b.hash FROM ArticleBody b, ArticleBodyRefCount r "
+            + "WHERE r.hash = b.hash AND r.refCount <= 0 AND b.createdAt < :before AND b.hash > :afterHash "
+            + "ORDER BY b.hash")
+    List<String> findUnreferencedHashes(@Param("before") LocalDateTime before, @Param("afterHash") String afterHash,
+                                        Limit limit);
+
+    // One entry per article, so a body used twice by the course appears twice.
+    @Query("SELECT a.body.hash FROM Article a WHERE a.section.course.id = :courseId AND a.body IS NOT NULL")
+    List<String> findHashesUsedByCourse(@Param("courseId") Long courseId);
+
+    // Hashes still pointed at by some article, whatever their counts say.
+    @Query("SELECT DISTINCT a.body.hash FROM Article a WHERE a.body.hash IN :hashes")
+    List<String> findReferencedHashes(@Param("hashes") Collection<String> hashes);
+}
@@ -0,0 +1,151 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.model.ArticleBody;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Content-addressed storage for article bodies with reference counting.
+ * Everything happens in the caller's transaction, on its connection. A new body is inserted behind a
+ * savepoint; if a concurrent writer inserted the same body first, only the duplicate-key failure is
+ * rolled back, so both writers end up pointing at one row. The reference count rolls back with the
+ * caller. A body left at zero references is removed by ArticleBodyDeduplicationJob after a grace period.
+ */
+@Component
+public class ArticleBodyStore {
+
+    private static final String INSERT_BODY = "INSERT INTO article_bodies "
+            + "(hash, content, content_compressed, content_codec, content_length, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_REF_COUNT = "INSERT INTO article_body_ref_counts (hash, ref_count) VALUES (?, 0)";
+    // SQLSTATE of a unique or primary key violation, on PostgreSQL and H2 alike.
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final EntityManager entityManager;
+    private final ArticleBodyRepository bodyRepository;
+    private final ArticleBodyRefCountRepository refCountRepository;
+    private final boolean compressionEnabled;
+    private final int compressionMinSize;
+
+    public ArticleBodyStore(EntityManager entityManager,
+                            ArticleBodyRepository bodyRepository,
+                            ArticleBodyRefCountRepository refCountRepository,
+                            @Value("${udehnih.article.compression.enabled:false}") boolean compressionEnabled,
+                            @Value("${udehnih.article.compression.min-size:1024}") int compressionMinSize) {
+        this.entityManager = entityManager;
+        this.bodyRepository = bodyRepository;
+        this.refCountRepository = refCountRepository;
+        this.compressionEnabled = compressionEnabled;
+        this.compressionMinSize = compressionMinSize;
+    }
+
+    /**
+     * Moves the inline bodies of the given articles into shared bodies, one reference each.
+     * Articles already pointing at a shared body, or without a body, are left alone.
+     * Each distinct body is hashed once and counted with a single UPDATE.
+     * Returns the number of articles moved.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int intern(Collection<Article> articles) {
+        Map<String, List<Article>> byHash = new LinkedHashMap<>();
+        Map<String, String> contents = new HashMap<>();
+        for (Article article : articles) {
+            String content = article.getBody() == null ? article.getContent() : null;
+            if (content == null) {
+                continue;
+            }
+            String hash = ArticleBody.hash(content);
+            contents.putIfAbsent(hash, content);
+            byHash.computeIfAbsent(hash, h -> new ArrayList<>()).add(article);
+        }
+
+        int moved = 0;
+        for (Map.Entry<String, List<Article>> entry : byHash.entrySet()) {
+            String hash = entry.getKey();
+            List<Article> sharing = entry.getValue();
+            retain(hash, contents.get(hash), sharing.size());
+            ArticleBody body = entityManager.getReference(ArticleBody.class, hash);
+            sharing.forEach(article -> article.useBody(body));
+            moved += sharing.size();
+        }
+        return moved;
+    }
+
+    /**
+     * Drops one reference per entry; pass a hash once for every article that stops using it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Collection<String> hashes) {
+        Map<String, Long> counts = hashes.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        counts.forEach((hash, count) -> refCountRepository.addReferences(hash, -count));
+    }
+
+    /**
+     * Releases every shared body used by the course's articles. Call before deleting the course.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseCourse(Long courseId) {
+        release(bodyRepository.findHashesUsedByCourse(courseId));
+    }
+
+    private void retain(String hash, String content, long references) {
+        if (refCountRepository.addReferences(hash, references) > 0) {
+            return;
+        }
+        insertIfAbsent(hash, content);
+        if (refCountRepository.addReferences(hash, references) == 0) {
+            throw new IllegalStateException("Article body " + hash + " vanished while being referenced");
+        }
+    }
+
+    // Plain JDBC on the transaction's connection: a Hibernate insert statement would evict the whole
+    // ARTICLE_BODY cache region, and a failed flush would leave the session unusable.
+    private void insertIfAbsent(String hash, String content) {
+        ArticleBody body = ArticleBody.of(hash, content, shouldCompress(content));
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement insertBody = connection.prepareStatement(INSERT_BODY);
+                 PreparedStatement insertRefCount = connection.prepareStatement(INSERT_REF_COUNT)) {
+                insertBody.setString(1, hash);
+                insertBody.setString(2, body.isCompressed() ? null : content);
+                insertBody.setBytes(3, body.getCompressedContent());
+                insertBody.setString(4, body.getContentCodec().name());
+                insertBody.setInt(5, body.getContentLength());
+                insertBody.setTimestamp(6, Timestamp.valueOf(LocalDateTime.now()));
+                insertBody.executeUpdate();
+                insertRefCount.setString(1, hash);
+                insertRefCount.executeUpdate();
+                connection.releaseSavepoint(savepoint);
+            } catch (SQLException e) {
+                if (!UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                    throw e;
+                }
+                // Another transaction inserted the same body first; its row is just as good.
+                connection.rollback(savepoint);
+            }
+        });
+    }
+
+    private boolean shouldCompress(String content) {
+        return compressionEnabled && content.length() >= compressionMinSize;
+    }
+}
@@ -0,0 +1,19 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.ArticleContentCodec;
+
+/**
+ * Stored body of one article, exactly as it sits in the row: plain text, or gzip bytes.
+ * contentHash is the SHA-256 of the text when the body is shared (see ArticleBody), otherwise null.
+ */
+public record ArticleContent(Long id, String contentType, String content, byte[] compressedContent,
+                             ArticleContentCodec codec, String contentHash) {
+
+    public boolean isCompressed() {
+        return codec == ArticleContentCodec.GZIP;
+    }
+
+    public String text() {
+        return isCompressed() ? ArticleContentCodec.gunzip(compressedContent) : content;
+    }
+}
@@ -0,0 +1,8 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+/**
+ * Constructor projection of an Article for the course outline. Never selects the content column.
+ * Design Pattern: Projection (via JPQL constructor expression)
+ */
+public record ArticleOutline(Long id, String title, String contentType, Long sectionId) {
+}
@@ -1,10 +1,39 @@
 package id.ac.ui.cs.advprog.udehnihcourse.repository;
 
 import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, Long>{
 
+    @Query("SELECT new id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleOutline(a.id, a.title, a.contentType, a.section.id) "
+            + "FROM Article a WHERE a.section.course.id = :courseId ORDER BY a.section.id, a.id")
+    List<ArticleOutline> findOutlinesByCourseId(@Param("courseId") Long courseId);
+
+    Optional<Article> findByIdAndSectionCourseId(Long id, Long courseId);
+
+    // A shared body leaves the inline columns empty, and vice versa, so coalesce picks whichever is set.
+    @Query("SELECT new id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleContent(a.id, a.contentType, "
+            + "coalesce(b.content, a.content), coalesce(b.compressedContent, a.compressedContent), "
+            + "coalesce(b.contentCodec, a.contentCodec), b.hash) "
+            + "FROM Article a LEFT JOIN a.body b WHERE a.id = :id AND a.section.course.id = :courseId")
+    Optional<ArticleContent> findContentByIdAndCourseId(@Param("id") Long id, @Param("courseId") Long courseId);
+
+    // Compression migration: plain bodies of at least minSize characters, in id order after a keyset cursor.
+    @Query("SELECT a.id FROM Article a WHERE a.id > :afterId "
+            + "AND (a.contentCodec IS NULL OR a.contentCodec = id.ac.ui.cs.advprog.udehnihcourse.model.ArticleContentCodec.PLAIN) "
+            + "AND length(a.content) >= :minSize ORDER BY a.id")
+    List<Long> findPlainIdsAfter(@Param("afterId") Long afterId, @Param("minSize") int minSize, Limit limit);
+
+    // Deduplication job: articles whose body is still stored inline, in id order after a keyset cursor.
+    @Query("SELECT a.id FROM Article a WHERE a.id > :afterId AND a.body IS NULL "
+            + "AND (a.content IS NOT NULL OR a.compressedContent IS NOT NULL) ORDER BY a.id")
+    List<Long> findInlineIdsAfter(@Param("afterId") Long afterId, Limit limit);
 }
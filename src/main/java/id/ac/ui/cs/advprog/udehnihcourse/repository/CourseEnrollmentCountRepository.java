@@ -0,0 +1,31 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.CourseEnrollmentCount;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CourseEnrollmentCountRepository extends JpaRepository<CourseEnrollmentCount, Long> {
+
+    List<CourseEnrollmentCount> findByCourseIdIn(Collection<Long> courseIds);
+
+    // Write-behind target of EnrollmentCounter: one statement per distinct delta.
+    @Modifying
+    @Query("UPDATE CourseEnrollmentCount e SET e.enrollmentCount = e.enrollmentCount + :delta WHERE e.courseId IN :ids")
+    int addEnrollments(@Param("delta") long delta, @Param("ids") Collection<Long> ids);
+
+    // HQL rather than a native insert, so Hibernate invalidates only this table's query spaces.
+    @Modifying
+    @Query("INSERT INTO CourseEnrollmentCount (courseId, enrollmentCount) VALUES (:courseId, :count)")
+    int insertCount(@Param("courseId") Long courseId, @Param("count") long count);
+
+    @Query("SELECT e.courseId FROM CourseEnrollmentCount e WHERE e.courseId IN :ids")
+    List<Long> findCountedIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,16 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Constructor projection of the Course columns shown at the top of a course page,
+ * without touching sections or articles.
+ * Design Pattern: Projection (via JPQL constructor expression)
+ */
+public record CourseHeader(
+        Long id,
+        String title,
+        String description,
+        BigDecimal price,
+        String tutorId) {
+}
@@ -1,19 +1,82 @@
 package id.ac.ui.cs.advprog.udehnihcourse.repository;
 
+import id.ac.ui.cs.advprog.udehnihcourse.model.CacheRegions;
 import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
 
-import org.springframework.data.jpa.repository.EntityGraph;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long>{
 
+    String SUMMARY_SELECT = "SELECT new id.ac.ui.cs.advprog.udehnihcourse.repository.CourseSummary("
+            + "c.id, c.title, c.category, c.price, c.tutorId, c.createdAt, coalesce(e.enrollmentCount, 0L)) "
+            + "FROM Course c LEFT JOIN CourseEnrollmentCount e ON e.courseId = c.id";
+
     List<Course> findByTutorId(String tutorId);
     List<Course> findByTitleContainingIgnoreCase(String keyword);
-    
-    @EntityGraph(attributePaths = {"sections", "sections.articles"})
-    Optional<Course> findById(Long id);
+
+    // Course tree, step 1 of CourseTreeLoader: the course and its sections, no articles.
+    @Query("SELECT c FROM Course c LEFT JOIN FETCH c.sections s WHERE c.id = :id ORDER BY s.id")
+    Optional<Course> findWithSectionsById(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT)
+    List<CourseSummary> findAllSummaries();
+
+    @Query("SELECT new id.ac.ui.cs.advprog.udehnihcourse.repository.CourseHeader("
+            + "c.id, c.title, c.description, c.price, c.tutorId) FROM Course c WHERE c.id = :id")
+    Optional<CourseHeader> findHeaderById(@Param("id") Long id);
+
+    // Rows come straight from the query cache. The query reads only courses, so enrollment
+    // flushes never invalidate it; only course inserts, updates and deletes do.
+    @Query("SELECT new id.ac.ui.cs.advprog.udehnihcourse.repository.TutorCourseSummary("
+            + "c.id, c.title, c.category, c.price, c.createdAt) FROM Course c WHERE c.tutorId = :tutorId")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.COURSES_BY_TUTOR_QUERY)
+    })
+    List<TutorCourseSummary> findSummariesByTutorId(@Param("tutorId") String tutorId);
+
+    @Query(SUMMARY_SELECT + " WHERE upper(c.title) LIKE upper(concat('%', :keyword, '%'))")
+    List<CourseSummary> findSummariesByTitleContainingIgnoreCase(@Param("keyword") String keyword);
+
+    @Query(SUMMARY_SELECT + " WHERE c.id IN :ids")
+    List<CourseSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new id.ac.ui.cs.advprog.udehnihcourse.repository.CourseVersion(c.id, c.updatedAt, c.contentVersion) "
+            + "FROM Course c WHERE c.id = :id")
+    Optional<CourseVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT c.id FROM Course c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT)
+    List<CourseSummary> findSummariesBy(Pageable pageable);
+
+    // PostgreSQL only: needs the generated search_vector column from db/postgres/course-search.sql.
+    @Query(value = "SELECT c.id FROM courses c WHERE c.search_vector @@ websearch_to_tsquery('simple', :query) "
+            + "ORDER BY ts_rank(c.search_vector, websearch_to_tsquery('simple', :query)) DESC, c.id",
+            countQuery = "SELECT count(*) FROM courses c WHERE c.search_vector @@ websearch_to_tsquery('simple', :query)",
+            nativeQuery = true)
+    Page<Long> searchRankedIds(@Param("query") String query, Pageable pageable);
+
+    // Keyset pagination over (created_at, id), served by idx_courses_created_at_id.
+    @Query(SUMMARY_SELECT + " ORDER BY c.createdAt ASC, c.id ASC")
+    List<CourseSummary> findFirstPage(Limit limit);
+
+    @Query(SUMMARY_SELECT + " WHERE (c.createdAt, c.id) > (:createdAt, :id) ORDER BY c.createdAt ASC, c.id ASC")
+    List<CourseSummary> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
 }
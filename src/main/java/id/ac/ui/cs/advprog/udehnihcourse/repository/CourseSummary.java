@@ -0,0 +1,20 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Constructor projection of the Course columns needed by list endpoints.
+ * Selecting into this record never hydrates a managed Course, so
+ * description and the sections graph stay out of list queries.
+ * Design Pattern: Projection (via JPQL constructor expression)
+ */
+public record CourseSummary(
+        Long id,
+        String title,
+        String category,
+        BigDecimal price,
+        String tutorId,
+        LocalDateTime createdAt,
+        long enrollmentCount) {
+}
@@ -0,0 +1,37 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Loads a course with all of its sections and articles in exactly two queries:
+ * the course joined with its sections, then every article of those sections in one IN query.
+ * Fetching both bags in a single join would multiply rows to sections x articles.
+ * Sections and articles come back ordered by id.
+ */
+@Component
+@RequiredArgsConstructor
+public class CourseTreeLoader {
+
+    private final CourseRepository courseRepository;
+    private final SectionRepository sectionRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<Course> load(Long courseId) {
+        Optional<Course> course = courseRepository.findWithSectionsById(courseId);
+        course.ifPresent(found -> {
+            List<Long> sectionIds = found.getSections().stream().map(Section::getId).toList();
+            if (!sectionIds.isEmpty()) {
+                // Same persistence context, so this fills in found.getSections().get(i).getArticles().
+                sectionRepository.findWithArticlesByIdIn(sectionIds);
+            }
+        });
+        return course;
+    }
+}
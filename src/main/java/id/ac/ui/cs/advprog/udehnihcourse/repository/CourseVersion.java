@@ -0,0 +1,10 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Metadata-only projection used to validate cached copies of a course without loading it.
+ * Design Pattern: Projection (via JPQL constructor expression)
+ */
+public record CourseVersion(Long id, LocalDateTime updatedAt, long contentVersion) {
+}
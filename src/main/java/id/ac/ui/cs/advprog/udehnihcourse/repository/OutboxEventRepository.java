@@ -0,0 +1,31 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Lock timeout -2 is SKIP LOCKED: on PostgreSQL this renders FOR NO KEY UPDATE SKIP LOCKED, so concurrent
+    // relays each claim a disjoint batch instead of waiting (see OutboxEventRepositoryPostgresSqlTest).
+    // H2's dialect drops SKIP LOCKED and renders a plain FOR UPDATE, so the H2 tests run relays one at a time.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.availableAt <= :now ORDER BY e.availableAt ASC, e.id ASC")
+    List<OutboxEvent> claimDue(@Param("now") LocalDateTime now, Limit limit);
+
+    @Query("SELECT min(e.createdAt) FROM OutboxEvent e")
+    LocalDateTime findOldestCreatedAt();
+}
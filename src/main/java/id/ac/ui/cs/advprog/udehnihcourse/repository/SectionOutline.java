@@ -0,0 +1,8 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+/**
+ * Constructor projection of a Section for the course outline.
+ * Design Pattern: Projection (via JPQL constructor expression)
+ */
+public record SectionOutline(Long id, String title) {
+}
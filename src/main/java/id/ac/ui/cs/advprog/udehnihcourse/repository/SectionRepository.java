@@ -2,9 +2,21 @@ package id.ac.ui.cs.advprog.udehnihcourse.repository;
 
 import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface SectionRepository extends JpaRepository<Section, Long> {
 
-}
\ No newline at end of file
+    @Query("SELECT new id.ac.ui.cs.advprog.udehnihcourse.repository.SectionOutline(s.id, s.title) "
+            + "FROM Section s WHERE s.course.id = :courseId ORDER BY s.id")
+    List<SectionOutline> findOutlinesByCourseId(@Param("courseId") Long courseId);
+
+    // Course tree, step 2 of CourseTreeLoader: initializes the articles of already loaded sections.
+    @Query("SELECT s FROM Section s LEFT JOIN FETCH s.articles a WHERE s.id IN :ids ORDER BY s.id, a.id")
+    List<Section> findWithArticlesByIdIn(@Param("ids") Collection<Long> ids);
+}
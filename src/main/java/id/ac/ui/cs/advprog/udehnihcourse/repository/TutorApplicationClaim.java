@@ -0,0 +1,8 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+/**
+ * Constructor projection of a PENDING TutorRegistration locked for a batch staff decision.
+ * Design Pattern: Projection (via JPQL constructor expression)
+ */
+public record TutorApplicationClaim(Long id, String studentId) {
+}
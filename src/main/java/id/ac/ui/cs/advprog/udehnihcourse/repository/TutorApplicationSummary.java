@@ -0,0 +1,14 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Constructor projection of a TutorRegistration for the staff review queue.
+ * Never selects the experience, qualifications and bio TEXT columns.
+ * Design Pattern: Projection (via JPQL constructor expression)
+ */
+public record TutorApplicationSummary(Long id, String studentId, TutorRegistrationStatus status,
+                                      LocalDateTime submittedAt) {
+}
@@ -0,0 +1,17 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Constructor projection behind a tutor's course list. Reads only the courses table,
+ * so the cached query result survives enrollment flushes; counts are merged in separately.
+ * Design Pattern: Projection (via JPQL constructor expression)
+ */
+public record TutorCourseSummary(
+        Long id,
+        String title,
+        String category,
+        BigDecimal price,
+        LocalDateTime createdAt) {
+}
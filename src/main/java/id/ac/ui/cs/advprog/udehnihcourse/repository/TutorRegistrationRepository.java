@@ -2,8 +2,16 @@ package id.ac.ui.cs.advprog.udehnihcourse.repository;
 
 import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistration;
 import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,9 +20,46 @@ import java.util.Optional;
  * Design Pattern: Repository (via Spring Data JPA) - Abstracts data access logic.
  */
 public interface TutorRegistrationRepository extends JpaRepository<TutorRegistration, Long>{
+
+    String SUMMARY_SELECT = "SELECT new id.ac.ui.cs.advprog.udehnihcourse.repository.TutorApplicationSummary("
+            + "t.id, t.studentId, t.status, t.submittedAt) FROM TutorRegistration t";
+
     Optional<TutorRegistration> findByStudentId(String studentId);
     boolean existsByStudentId(String studentId);
     List<TutorRegistration> findByStatus(TutorRegistrationStatus status);
     Optional<TutorRegistration> findByStudentIdAndStatus(String studentId, TutorRegistrationStatus status);
 
+    @Query("SELECT t.studentId FROM TutorRegistration t WHERE t.status = :status")
+    List<String> findStudentIdsByStatus(@Param("status") TutorRegistrationStatus status);
+
+    // Keyset pagination over (status, submitted_at, application_id), served by idx_tutor_applications_status_submitted_id.
+    @Query(SUMMARY_SELECT + " WHERE t.status = :status ORDER BY t.submittedAt ASC, t.id ASC")
+    List<TutorApplicationSummary> findQueueFirstPage(@Param("status") TutorRegistrationStatus status, Limit limit);
+
+    @Query(SUMMARY_SELECT + " WHERE t.status = :status AND (t.submittedAt, t.id) > (:submittedAt, :id) "
+            + "ORDER BY t.submittedAt ASC, t.id ASC")
+    List<TutorApplicationSummary> findQueuePageAfter(@Param("status") TutorRegistrationStatus status,
+                                                     @Param("submittedAt") LocalDateTime submittedAt,
+                                                     @Param("id") Long id,
+                                                     Limit limit);
+
+    // Batch staff decision, step 1: lock the rows still PENDING (FOR UPDATE). Locks are taken in id order,
+    // so two overlapping batches wait for each other instead of deadlocking.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new id.ac.ui.cs.advprog.udehnihcourse.repository.TutorApplicationClaim(t.id, t.studentId) "
+            + "FROM TutorRegistration t "
+            + "WHERE t.status = id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus.PENDING AND t.id IN :ids "
+            + "ORDER BY t.id")
+    List<TutorApplicationClaim> claimPending(@Param("ids") Collection<Long> ids);
+
+    // Step 2: decide exactly the claimed rows. They stay locked, so none can have left PENDING in between.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TutorRegistration t SET t.status = :status, t.processedAt = :processedAt "
+            + "WHERE t.status = id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus.PENDING AND t.id IN :ids")
+    int decidePending(@Param("ids") Collection<Long> ids,
+                      @Param("status") TutorRegistrationStatus status,
+                      @Param("processedAt") LocalDateTime processedAt);
+
+    @Query("SELECT t.id FROM TutorRegistration t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,19 @@
+package id.ac.ui.cs.advprog.udehnihcourse.search;
+
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseSummary;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Strategy for answering course keyword searches, selected with udehnih.search.backend.
+ * Design Pattern: Strategy
+ */
+public interface CourseSearchBackend {
+
+    /**
+     * Returns the requested page of matching courses, best match first.
+     * An unpaged request returns every match.
+     */
+    List<CourseSummary> search(String keyword, Pageable pageable);
+}
@@ -0,0 +1,265 @@
+package id.ac.ui.cs.advprog.udehnihcourse.search;
+
+import id.ac.ui.cs.advprog.udehnihcourse.event.CourseChangedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over course titles and categories.
+ * Every word is indexed as a whole token and as all of its 1- to 3-character n-grams,
+ * so a case-insensitive "contains" search can be answered without a table scan:
+ * the n-grams narrow the candidates and the stored text confirms the match.
+ * Kept current from CourseChangedEvent after the owning transaction commits.
+ * A rebuild never lets its snapshot override an event: courses indexed or removed while the
+ * rebuild runs are skipped when the snapshot is applied, since the event is at least as new.
+ * Only built when the index search backend is active.
+ */
+@Component
+@ConditionalOnProperty(name = "udehnih.search.backend", havingValue = "index", matchIfMissing = true)
+@RequiredArgsConstructor
+public class CourseSearchIndex {
+
+    static final int MAX_GRAM_LENGTH = 3;
+
+    private final CourseRepository courseRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, LongPostingList> tokens = new HashMap<>();
+    private final Map<String, LongPostingList> grams = new HashMap<>();
+    private final Map<Long, IndexedCourse> documents = new HashMap<>();
+    private final LongPostingList allIds = new LongPostingList();
+    // Ids changed by index or remove while a rebuild is loading; null when no rebuild is running.
+    private Set<Long> changedDuringRebuild;
+    private volatile boolean ready;
+
+    private record IndexedCourse(String title, String category) {
+
+        boolean contains(String keyword) {
+            return title.contains(keyword) || category.contains(keyword);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            // Upsert rather than replace, so changes committed while loading are not lost.
+            for (CourseSummary course : courseRepository.findAllSummaries()) {
+                lock.writeLock().lock();
+                try {
+                    if (!changedDuringRebuild.contains(course.id())) {
+                        indexLocked(course.id(), course.title(), course.category());
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        ready = true;
+    }
+
+    @TransactionalEventListener
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.type() == CourseChangedEvent.ChangeType.DELETED) {
+            remove(event.courseId());
+        } else {
+            index(event.courseId(), event.title(), event.category());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(Long courseId, String title, String category) {
+        lock.writeLock().lock();
+        try {
+            recordChangeLocked(courseId);
+            indexLocked(courseId, title, category);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long courseId) {
+        lock.writeLock().lock();
+        try {
+            recordChangeLocked(courseId);
+            removeLocked(courseId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids, in ascending order, of every course whose title or category contains the keyword,
+     * ignoring case. A blank keyword matches every course.
+     */
+    public long[] search(String keyword) {
+        String normalized = normalize(keyword).strip();
+        List<String> queryTokens = tokenize(normalized);
+
+        lock.readLock().lock();
+        try {
+            if (normalized.isEmpty()) {
+                return allIds.toArray();
+            }
+            long[] candidates = candidatesFor(queryTokens);
+            if (candidates == null) {
+                candidates = allIds.toArray();
+            }
+            return verified(candidates, normalized);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] candidatesFor(List<String> queryTokens) {
+        long[] candidates = null;
+        for (int i = 0; i < queryTokens.size(); i++) {
+            String token = queryTokens.get(i);
+            // Only the first and last query words can be fragments of longer words; inner ones are whole tokens.
+            boolean wholeWord = i > 0 && i < queryTokens.size() - 1;
+            List<LongPostingList> postings = new ArrayList<>();
+            if (wholeWord) {
+                postings.add(tokens.get(token));
+            } else if (token.length() <= MAX_GRAM_LENGTH) {
+                postings.add(grams.get(token));
+            } else {
+                for (int start = 0; start + MAX_GRAM_LENGTH <= token.length(); start++) {
+                    postings.add(grams.get(token.substring(start, start + MAX_GRAM_LENGTH)));
+                }
+            }
+            for (LongPostingList posting : postings) {
+                if (posting == null) {
+                    return new long[0];
+                }
+                candidates = candidates == null ? posting.toArray() : posting.intersect(candidates);
+                if (candidates.length == 0) {
+                    return candidates;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private long[] verified(long[] candidates, String keyword) {
+        long[] matches = new long[candidates.length];
+        int count = 0;
+        for (long candidate : candidates) {
+            IndexedCourse document = documents.get(candidate);
+            if (document != null && document.contains(keyword)) {
+                matches[count++] = candidate;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private void recordChangeLocked(Long courseId) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(courseId);
+        }
+    }
+
+    private void indexLocked(Long courseId, String title, String category) {
+        IndexedCourse document = new IndexedCourse(normalize(title), normalize(category));
+        removeLocked(courseId);
+        documents.put(courseId, document);
+        allIds.add(courseId);
+        for (String token : termsOf(document)) {
+            tokens.computeIfAbsent(token, key -> new LongPostingList()).add(courseId);
+            for (String gram : gramsOf(token)) {
+                grams.computeIfAbsent(gram, key -> new LongPostingList()).add(courseId);
+            }
+        }
+    }
+
+    private void removeLocked(Long courseId) {
+        IndexedCourse previous = documents.remove(courseId);
+        if (previous == null) {
+            return;
+        }
+        allIds.remove(courseId);
+        for (String token : termsOf(previous)) {
+            removePosting(tokens, token, courseId);
+            for (String gram : gramsOf(token)) {
+                removePosting(grams, gram, courseId);
+            }
+        }
+    }
+
+    private static void removePosting(Map<String, LongPostingList> postings, String key, long courseId) {
+        LongPostingList posting = postings.get(key);
+        if (posting != null && posting.remove(courseId) && posting.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static Set<String> termsOf(IndexedCourse document) {
+        Set<String> terms = new HashSet<>(tokenize(document.title()));
+        terms.addAll(tokenize(document.category()));
+        return terms;
+    }
+
+    static Set<String> gramsOf(String token) {
+        Set<String> result = new HashSet<>();
+        for (int start = 0; start < token.length(); start++) {
+            for (int length = 1; length <= MAX_GRAM_LENGTH && start + length <= token.length(); length++) {
+                result.add(token.substring(start, start + length));
+            }
+        }
+        return result;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> result = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isLetterOrDigit(text.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                result.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            result.add(text.substring(start));
+        }
+        return result;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
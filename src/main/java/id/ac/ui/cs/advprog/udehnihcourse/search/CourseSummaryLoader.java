@@ -0,0 +1,40 @@
+package id.ac.ui.cs.advprog.udehnihcourse.search;
+
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseSummary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads course summaries for a list of ids found by a search backend, keeping the backend's order.
+ */
+final class CourseSummaryLoader {
+
+    private static final int BATCH_SIZE = 500;
+
+    private CourseSummaryLoader() {
+    }
+
+    static List<CourseSummary> loadInOrder(CourseRepository courseRepository, List<Long> ids) {
+        Map<Long, CourseSummary> byId = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            for (CourseSummary course : courseRepository.findSummariesByIdIn(batch)) {
+                byId.put(course.id(), course);
+            }
+        }
+
+        // Ids deleted since the backend saw them simply drop out.
+        List<CourseSummary> result = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            CourseSummary course = byId.get(id);
+            if (course != null) {
+                result.add(course);
+            }
+        }
+        return result;
+    }
+}
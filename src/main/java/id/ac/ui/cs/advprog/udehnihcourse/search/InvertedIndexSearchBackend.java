@@ -0,0 +1,42 @@
+package id.ac.ui.cs.advprog.udehnihcourse.search;
+
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Default search backend: matches come from the in-memory CourseSearchIndex and only the
+ * requested page is loaded from the database. Works on any database, including H2.
+ * Falls back to a LIKE query until the index has been built.
+ */
+@Component
+@ConditionalOnProperty(name = "udehnih.search.backend", havingValue = "index", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InvertedIndexSearchBackend implements CourseSearchBackend {
+
+    private final CourseSearchIndex courseSearchIndex;
+    private final CourseRepository courseRepository;
+
+    @Override
+    public List<CourseSummary> search(String keyword, Pageable pageable) {
+        if (!courseSearchIndex.isReady()) {
+            return courseRepository.findSummariesByTitleContainingIgnoreCase(keyword);
+        }
+
+        long[] matches = courseSearchIndex.search(keyword);
+        int from = 0;
+        int to = matches.length;
+        if (pageable.isPaged()) {
+            from = (int) Math.min(pageable.getOffset(), matches.length);
+            to = Math.min(from + pageable.getPageSize(), matches.length);
+        }
+        List<Long> ids = Arrays.stream(matches, from, to).boxed().toList();
+        return CourseSummaryLoader.loadInOrder(courseRepository, ids);
+    }
+}
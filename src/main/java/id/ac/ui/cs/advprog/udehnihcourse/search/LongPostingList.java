@@ -0,0 +1,88 @@
+package id.ac.ui.cs.advprog.udehnihcourse.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted, duplicate-free list of course ids backed by a primitive long array.
+ * Not thread-safe; CourseSearchIndex guards every instance with its lock.
+ */
+public class LongPostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    public boolean add(long id) {
+        // Ids are usually appended in increasing order, so check the tail before searching.
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return true;
+        }
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return false;
+        }
+        int insertAt = -index - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+        return true;
+    }
+
+    public boolean remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Intersects a sorted id array with this list, returning a new sorted array.
+     */
+    public long[] intersect(long[] sortedIds) {
+        long[] result = new long[Math.min(sortedIds.length, size)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < sortedIds.length && j < size) {
+            if (sortedIds[i] == ids[j]) {
+                result[count++] = sortedIds[i];
+                i++;
+                j++;
+            } else if (sortedIds[i] < ids[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package id.ac.ui.cs.advprog.udehnihcourse.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Adds the generated search_vector column and its GIN index to courses when the PostgreSQL
+ * search backend is active. The column is not mapped on Course, so Hibernate never writes it.
+ * Depends on the EntityManagerFactory so it runs after Hibernate has created the schema.
+ */
+@Component
+@ConditionalOnProperty(name = "udehnih.search.backend", havingValue = "postgres")
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class PostgresFullTextSchemaInitializer implements InitializingBean {
+
+    static final String SCHEMA_SCRIPT = "db/postgres/course-search.sql";
+
+    private final DataSource dataSource;
+
+    @Override
+    public void afterPropertiesSet() {
+        new ResourceDatabasePopulator(new ClassPathResource(SCHEMA_SCRIPT)).execute(dataSource);
+    }
+}
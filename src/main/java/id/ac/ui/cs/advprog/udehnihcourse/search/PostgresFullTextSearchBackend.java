@@ -0,0 +1,39 @@
+package id.ac.ui.cs.advprog.udehnihcourse.search;
+
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * PostgreSQL search backend: ranks courses with ts_rank over the generated, GIN-indexed
+ * courses.search_vector column (title, category and description), then loads the page.
+ * Enabled with udehnih.search.backend=postgres.
+ */
+@Component
+@ConditionalOnProperty(name = "udehnih.search.backend", havingValue = "postgres")
+@RequiredArgsConstructor
+public class PostgresFullTextSearchBackend implements CourseSearchBackend {
+
+    private final CourseRepository courseRepository;
+
+    @Override
+    public List<CourseSummary> search(String keyword, Pageable pageable) {
+        if (keyword == null || keyword.isBlank()) {
+            // An empty tsquery matches nothing; keep the "blank lists everything" behaviour.
+            Pageable byId = pageable.isPaged()
+                    ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("id"))
+                    : Pageable.unpaged(Sort.by("id"));
+            return courseRepository.findSummariesBy(byId);
+        }
+
+        List<Long> ids = courseRepository.searchRankedIds(keyword, pageable).getContent();
+        return CourseSummaryLoader.loadInOrder(courseRepository, ids);
+    }
+}
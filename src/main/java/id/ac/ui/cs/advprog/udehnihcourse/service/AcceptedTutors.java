@@ -0,0 +1,217 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import id.ac.ui.cs.advprog.udehnihcourse.event.TutorRegistrationProcessedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.event.TutorRegistrationsProcessedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorRegistrationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory set of accepted tutors, so the authorization check on course writes needs no query.
+ * Loaded at startup and kept current by TutorRegistrationProcessedEvent after each commit.
+ * As a safety net the whole set is reloaded every refresh-interval, and a snapshot older than
+ * ttl is reloaded on the next check; differences a reload finds are counted as corrections.
+ * Reads never lock: writers swap in a new immutable set. Writers and reloads coordinate through a
+ * ReentrantLock rather than a monitor, so a virtual thread waiting for a reload unmounts from its
+ * carrier instead of pinning it; the query itself runs without the lock.
+ */
+@Component
+public class AcceptedTutors {
+
+    public static final String CORRECTIONS_COUNTER = "udehnih.tutors.accepted.corrections";
+    public static final String RELOADS_COUNTER = "udehnih.tutors.accepted.reloads";
+
+    private final TutorRegistrationRepository tutorRegistrationRepository;
+    private final Duration ttl;
+    private final Clock clock;
+
+    private final Counter addedCorrections;
+    private final Counter removedCorrections;
+    private final Counter scheduledReloads;
+    private final Counter expiredReloads;
+
+    private volatile Set<String> accepted;
+    private volatile Instant loadedAt;
+    private final Lock lock = new ReentrantLock();
+    private final Condition reloadFinished = lock.newCondition();
+    // Guarded by lock. Changes applied while a reload is reading the table; replayed onto its result.
+    private Map<String, Boolean> changesDuringReload;
+
+    @Autowired
+    public AcceptedTutors(TutorRegistrationRepository tutorRegistrationRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${udehnih.accepted-tutors.ttl:5m}") Duration ttl) {
+        this(tutorRegistrationRepository, meterRegistry, ttl, Clock.systemUTC());
+    }
+
+    AcceptedTutors(TutorRegistrationRepository tutorRegistrationRepository,
+                   MeterRegistry meterRegistry, Duration ttl, Clock clock) {
+        this.tutorRegistrationRepository = tutorRegistrationRepository;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.addedCorrections = correctionCounter(meterRegistry, "added");
+        this.removedCorrections = correctionCounter(meterRegistry, "removed");
+        this.scheduledReloads = reloadCounter(meterRegistry, "scheduled");
+        this.expiredReloads = reloadCounter(meterRegistry, "expired");
+        Gauge.builder("udehnih.tutors.accepted.size", this, tutors -> tutors.accepted == null ? 0 : tutors.accepted.size())
+                .description("Accepted tutors held in memory")
+                .register(meterRegistry);
+        Gauge.builder("udehnih.tutors.accepted.age", this, AcceptedTutors::ageSeconds)
+                .description("Seconds since the accepted-tutor set was last reloaded from the database")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isAccepted(String tutorId) {
+        Instant loaded = loadedAt;
+        if (loaded == null || clock.instant().isAfter(loaded.plus(ttl))) {
+            reload(expiredReloads);
+        }
+        return tutorId != null && accepted.contains(tutorId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload(scheduledReloads);
+    }
+
+    @Scheduled(initialDelayString = "${udehnih.accepted-tutors.refresh-interval:1m}",
+            fixedDelayString = "${udehnih.accepted-tutors.refresh-interval:1m}")
+    public void refresh() {
+        reload(scheduledReloads);
+    }
+
+    @TransactionalEventListener
+    public void onRegistrationProcessed(TutorRegistrationProcessedEvent event) {
+        apply(Map.of(event.studentId(), event.status() == TutorRegistrationStatus.ACCEPTED));
+    }
+
+    @TransactionalEventListener
+    public void onRegistrationsProcessed(TutorRegistrationsProcessedEvent event) {
+        Map<String, Boolean> changes = new LinkedHashMap<>();
+        event.registrations().forEach(registration ->
+                changes.put(registration.studentId(), registration.status() == TutorRegistrationStatus.ACCEPTED));
+        apply(changes);
+    }
+
+    // One copy of the set per event, however many tutors it changes.
+    private void apply(Map<String, Boolean> changes) {
+        lock.lock();
+        try {
+            if (changesDuringReload != null) {
+                changesDuringReload.putAll(changes);
+            }
+            if (accepted == null) {
+                return;
+            }
+            Set<String> updated = new HashSet<>(accepted);
+            boolean changed = false;
+            for (Map.Entry<String, Boolean> change : changes.entrySet()) {
+                changed |= change.getValue() ? updated.add(change.getKey()) : updated.remove(change.getKey());
+            }
+            if (changed) {
+                accepted = Set.copyOf(updated);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reload(Counter trigger) {
+        lock.lock();
+        try {
+            if (changesDuringReload != null) {
+                // Another thread is reloading; this caller waits for it instead of querying too.
+                awaitReload();
+                return;
+            }
+            changesDuringReload = new HashMap<>();
+        } finally {
+            lock.unlock();
+        }
+        Set<String> loaded;
+        try {
+            loaded = new HashSet<>(tutorRegistrationRepository.findStudentIdsByStatus(TutorRegistrationStatus.ACCEPTED));
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                changesDuringReload = null;
+                reloadFinished.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        lock.lock();
+        try {
+            changesDuringReload.forEach((tutorId, isAccepted) -> {
+                if (isAccepted) {
+                    loaded.add(tutorId);
+                } else {
+                    loaded.remove(tutorId);
+                }
+            });
+            if (accepted != null) {
+                addedCorrections.increment(loaded.stream().filter(id -> !accepted.contains(id)).count());
+                removedCorrections.increment(accepted.stream().filter(id -> !loaded.contains(id)).count());
+            }
+            accepted = Set.copyOf(loaded);
+            loadedAt = clock.instant();
+            changesDuringReload = null;
+            reloadFinished.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        trigger.increment();
+    }
+
+    // Called with the lock held; await releases it while waiting.
+    private void awaitReload() {
+        while (changesDuringReload != null) {
+            reloadFinished.awaitUninterruptibly();
+        }
+        if (accepted == null) {
+            throw new IllegalStateException("Accepted tutors could not be loaded");
+        }
+    }
+
+    private double ageSeconds() {
+        Instant loaded = loadedAt;
+        return loaded == null ? Double.NaN : Duration.between(loaded, clock.instant()).toMillis() / 1000.0;
+    }
+
+    private static Counter correctionCounter(MeterRegistry meterRegistry, String kind) {
+        return Counter.builder(CORRECTIONS_COUNTER)
+                .description("Accepted-tutor entries a reload found missing from or wrongly present in memory")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    private static Counter reloadCounter(MeterRegistry meterRegistry, String trigger) {
+        return Counter.builder(RELOADS_COUNTER)
+                .description("Reloads of the accepted-tutor set from the database")
+                .tag("trigger", trigger)
+                .register(meterRegistry);
+    }
+}
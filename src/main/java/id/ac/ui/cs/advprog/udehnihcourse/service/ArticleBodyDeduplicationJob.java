@@ -0,0 +1,140 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleBodyRefCountRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleBodyRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleBodyStore;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Background maintenance of shared article bodies, one transaction per batch:
+ * moves bodies still stored inline (rows from before deduplication, COPY imports,
+ * Article.setContent) into ArticleBodyStore, recounts references so drift cannot pin
+ * or free a body wrongly, and deletes bodies nobody has used for the grace period.
+ */
+@Slf4j
+@Component
+public class ArticleBodyDeduplicationJob {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleBodyRepository bodyRepository;
+    private final ArticleBodyRefCountRepository refCountRepository;
+    private final ArticleBodyStore articleBodyStore;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration gracePeriod;
+
+    public ArticleBodyDeduplicationJob(ArticleRepository articleRepository,
+                                       ArticleBodyRepository bodyRepository,
+                                       ArticleBodyRefCountRepository refCountRepository,
+                                       ArticleBodyStore articleBodyStore,
+                                       EntityManager entityManager,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${udehnih.article.dedup.batch-size:500}") int batchSize,
+                                       @Value("${udehnih.article.dedup.grace-period:1h}") Duration gracePeriod) {
+        this.articleRepository = articleRepository;
+        this.bodyRepository = bodyRepository;
+        this.refCountRepository = refCountRepository;
+        this.articleBodyStore = articleBodyStore;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @Scheduled(initialDelayString = "${udehnih.article.dedup.interval:10m}",
+            fixedDelayString = "${udehnih.article.dedup.interval:10m}")
+    public void run() {
+        long moved = deduplicate();
+        int removed = collectGarbage();
+        if (moved > 0 || removed > 0) {
+            log.info("Article bodies: {} moved to shared storage, {} unused removed", moved, removed);
+        }
+    }
+
+    /**
+     * Moves every inline article body into shared storage. Returns how many articles were moved.
+     */
+    public long deduplicate() {
+        long moved = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = articleRepository.findInlineIdsAfter(afterId, Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                return moved;
+            }
+            moved += inTransaction(() -> {
+                List<Article> articles = articleRepository.findAllById(ids);
+                int count = articleBodyStore.intern(articles);
+                entityManager.flush();
+                entityManager.clear();
+                return count;
+            });
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    /**
+     * Recounts references, then deletes bodies at zero references older than the grace period.
+     * The grace period covers bodies inserted by a transaction that has not committed its articles yet.
+     * Returns how many bodies were deleted.
+     */
+    public int collectGarbage() {
+        recountReferences();
+        LocalDateTime before = LocalDateTime.now().minus(gracePeriod);
+        int removed = 0;
+        String afterHash = "";
+        while (true) {
+            List<String> candidates = bodyRepository.findUnreferencedHashes(before, afterHash, Limit.of(batchSize));
+            if (candidates.isEmpty()) {
+                return removed;
+            }
+            removed += inTransaction(() -> {
+                Set<String> inUse = new HashSet<>(bodyRepository.findReferencedHashes(candidates));
+                int deleted = 0;
+                for (String hash : candidates) {
+                    // The conditional delete loses to a concurrent addReferences, which keeps the body.
+                    if (!inUse.contains(hash) && refCountRepository.deleteIfUnreferenced(hash) > 0) {
+                        bodyRepository.deleteById(hash);
+                        deleted++;
+                    }
+                }
+                return deleted;
+            });
+            afterHash = candidates.get(candidates.size() - 1);
+        }
+    }
+
+    private void recountReferences() {
+        String afterHash = "";
+        while (true) {
+            List<String> hashes = refCountRepository.findHashesAfter(afterHash, Limit.of(batchSize));
+            if (hashes.isEmpty()) {
+                return;
+            }
+            inTransaction(() -> refCountRepository.recount(hashes));
+            afterHash = hashes.get(hashes.size() - 1);
+        }
+    }
+
+    private int inTransaction(Supplier<Integer> work) {
+        Integer result = transactionTemplate.execute(status -> work.get());
+        return result == null ? 0 : result;
+    }
+}
@@ -0,0 +1,82 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Compresses article bodies that were stored plain, in id order, one transaction per batch,
+ * so a large backfill never holds long locks or a large persistence context.
+ * New writes are compressed by ArticleContentCompressionListener; this catches up existing rows.
+ * Design Pattern: Service Layer
+ */
+@Slf4j
+@Service
+public class ArticleContentMigrationService {
+
+    private final ArticleRepository articleRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int minSize;
+    private final int batchSize;
+    private final boolean migrateOnStartup;
+
+    public ArticleContentMigrationService(ArticleRepository articleRepository,
+                                          EntityManager entityManager,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${udehnih.article.compression.min-size:1024}") int minSize,
+                                          @Value("${udehnih.article.compression.migration-batch-size:500}") int batchSize,
+                                          @Value("${udehnih.article.compression.migrate-on-startup:false}") boolean migrateOnStartup) {
+        this.articleRepository = articleRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minSize = minSize;
+        this.batchSize = batchSize;
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (migrateOnStartup) {
+            long compressed = compressExisting();
+            log.info("Compressed {} existing article bodies", compressed);
+        }
+    }
+
+    /**
+     * Compresses every plain body of at least min-size characters. Returns how many were compressed.
+     */
+    public long compressExisting() {
+        long compressed = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = articleRepository.findPlainIdsAfter(afterId, minSize, Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                return compressed;
+            }
+            compressed += compressBatch(ids);
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private int compressBatch(List<Long> ids) {
+        Integer count = transactionTemplate.execute(status -> {
+            List<Article> articles = articleRepository.findAllById(ids);
+            articles.forEach(Article::compressContent);
+            entityManager.flush();
+            entityManager.clear();
+            return articles.size();
+        });
+        return count == null ? 0 : count;
+    }
+}
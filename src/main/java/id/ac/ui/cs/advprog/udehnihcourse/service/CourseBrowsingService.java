@@ -1,69 +1,220 @@
 package id.ac.ui.cs.advprog.udehnihcourse.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import id.ac.ui.cs.advprog.udehnihcourse.cache.CourseDetailCache;
+import id.ac.ui.cs.advprog.udehnihcourse.enrollment.EnrollmentCounter;
 import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
 import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
 import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleContent;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleOutline;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseHeader;
 import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
-import jakarta.transaction.Transactional;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseSummary;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseTreeLoader;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseVersion;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.SectionRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.search.CourseSearchBackend;
 import lombok.RequiredArgsConstructor;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CourseDetailDTO;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CourseListDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CoursePageDTO;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.SectionDTO;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.ArticleDTO;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Collections;
+import java.util.ArrayList;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class CourseBrowsingService {
-    
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private CourseRepository courseRepository;
+
+    @Autowired
+    private SectionRepository sectionRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private CourseTreeLoader courseTreeLoader;
+
+    @Autowired
+    private CourseSearchBackend courseSearchBackend;
+
+    @Autowired
+    private CourseDetailCache courseDetailCache;
+
+    @Autowired
+    private TutorDirectory tutorDirectory;
+
+    @Autowired
+    private EnrollmentCounter enrollmentCounter;
     
     public List<CourseListDTO> getAllCourses() {
-        List<Course> courses = courseRepository.findAll();
-        return courses.stream()
-            .map(this::convertToDto)
-            .toList();
+        List<CourseSummary> courses = courseRepository.findAllSummaries();
+        return convertToDtos(courses);
+    }
+
+    public CoursePageDTO getCoursePage(String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.clamp(size, 1, MAX_PAGE_SIZE);
+        // Fetch one extra row to know whether another page exists without a count query.
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<CourseSummary> courses;
+        if (cursor == null || cursor.isBlank()) {
+            courses = courseRepository.findFirstPage(limit);
+        } else {
+            CourseCursor after = CourseCursor.decode(cursor);
+            courses = courseRepository.findPageAfter(after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = courses.size() > pageSize;
+        List<CourseSummary> page = hasNext ? courses.subList(0, pageSize) : courses;
+        String nextCursor = null;
+        if (hasNext) {
+            CourseSummary last = page.get(page.size() - 1);
+            nextCursor = new CourseCursor(last.createdAt(), last.id()).encode();
+        }
+
+        return CoursePageDTO.builder()
+            .courses(convertToDtos(page))
+            .nextCursor(nextCursor)
+            .build();
     }
 
     public List<CourseListDTO> searchCourses(String keyword) {
-        List<Course> courses = courseRepository.findByTitleContainingIgnoreCase(keyword);
-        return courses.stream()
-            .map(this::convertToDto)
-            .toList();
+        return searchCourses(keyword, 0, null);
+    }
+
+    /**
+     * Searches through the configured CourseSearchBackend and only loads the requested page.
+     * A null size returns every match.
+     */
+    public List<CourseListDTO> searchCourses(String keyword, int page, Integer size) {
+        Pageable pageable = size == null
+            ? Pageable.unpaged()
+            : PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, MAX_PAGE_SIZE));
+        return convertToDtos(courseSearchBackend.search(keyword, pageable));
     }
 
     public CourseDetailDTO getCourseById(Long id) {
-        Course course = courseRepository.findById(id).orElseThrow(() -> new RuntimeException("Course not found"));   
+        return courseDetailCache.get(id, this::loadCourseDetail);
+    }
+
+    /**
+     * Returns the course with its sections and article titles, ids and content types only.
+     * Article bodies are never selected; clients fetch them one at a time with getArticle.
+     */
+    public CourseDetailDTO getCourseOutline(Long id) {
+        CourseHeader course = courseRepository.findHeaderById(id)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Course not found"));
+
+        Map<Long, List<ArticleDTO>> articlesBySection = new HashMap<>();
+        for (ArticleOutline article : articleRepository.findOutlinesByCourseId(id)) {
+            articlesBySection.computeIfAbsent(article.sectionId(), sectionId -> new ArrayList<>())
+                .add(ArticleDTO.builder()
+                    .id(article.id())
+                    .title(article.title())
+                    .contentType(article.contentType())
+                    .build());
+        }
+
+        List<SectionDTO> sections = sectionRepository.findOutlinesByCourseId(id).stream()
+            .map(section -> SectionDTO.builder()
+                .id(section.id())
+                .title(section.title())
+                .articles(articlesBySection.getOrDefault(section.id(), Collections.emptyList()))
+                .build())
+            .toList();
+
+        return CourseDetailDTO.builder()
+            .id(course.id())
+            .title(course.title())
+            .description(course.description())
+            .tutorName(tutorDirectory.resolveName(course.tutorId()))
+            .price(course.price())
+            .sections(sections)
+            .build();
+    }
+
+    public ArticleDTO getArticle(Long courseId, Long articleId) {
+        Article article = articleRepository.findByIdAndSectionCourseId(articleId, courseId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Article not found"));
+        return mapToArticleDTO(article);
+    }
+
+    /**
+     * Returns the article body as stored, so a compressed body can be sent without recompressing it.
+     */
+    public ArticleContent getArticleContent(Long courseId, Long articleId) {
+        return articleRepository.findContentByIdAndCourseId(articleId, courseId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Article not found"));
+    }
+
+    /**
+     * Returns only what is needed to validate a client's cached copy of the course;
+     * nothing from sections or articles is loaded.
+     */
+    public CourseVersion getCourseVersion(Long id) {
+        return courseRepository.findVersionById(id)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Course not found"));
+    }
+
+    private CourseDetailDTO loadCourseDetail(Long id) {
+        Course course = courseTreeLoader.load(id).orElseThrow(() -> new RuntimeException("Course not found"));
     
         return CourseDetailDTO.builder()
             .id(course.getId())
             .title(course.getTitle())
             .description(course.getDescription())
-            .tutorName(getTutorName(course.getTutorId()))
+            .tutorName(tutorDirectory.resolveName(course.getTutorId()))
             .price(course.getPrice())
             .sections(mapToSectionDTOs(course.getSections()))
             .build();
     }
 
-    private CourseListDTO convertToDto(Course course) {
+    private List<CourseListDTO> convertToDtos(List<CourseSummary> courses) {
+        // One directory lookup for every tutor on the page instead of one per course.
+        Map<String, String> tutorNames = tutorDirectory.resolveNames(
+            courses.stream().map(CourseSummary::tutorId).toList());
+        return courses.stream()
+            .map(course -> convertToDto(course, tutorNames))
+            .toList();
+    }
+
+    // Package-private for the JMH benchmarks in src/jmh.
+    CourseListDTO convertToDto(CourseSummary course, Map<String, String> tutorNames) {
         CourseListDTO dto = CourseListDTO.builder()
-            .id(course.getId())
-            .title(course.getTitle())
-            .price(course.getPrice())
-            .tutorName(getTutorName(course.getTutorId()))
+            .id(course.id())
+            .title(course.title())
+            .price(course.price())
+            .tutorName(tutorNames.get(course.tutorId()))
+            .enrollmentCount(course.enrollmentCount() + enrollmentCounter.pendingDelta(course.id()))
             .build();
         return dto; 
     }
 
-    private List<SectionDTO> mapToSectionDTOs(List<Section> sections) {
+    List<SectionDTO> mapToSectionDTOs(List<Section> sections) {
         return Optional.ofNullable(sections).orElse(Collections.emptyList()).stream()
             .map(this::mapToSectionDTO)
             .toList();
@@ -77,7 +228,7 @@ public class CourseBrowsingService {
             .build();
     }
 
-    private List<ArticleDTO> mapToArticleDTOs(List<Article> articles) {
+    List<ArticleDTO> mapToArticleDTOs(List<Article> articles) {
         return Optional.ofNullable(articles).orElse(Collections.emptyList()).stream()
             .map(this::mapToArticleDTO)
             .toList();
@@ -88,12 +239,7 @@ public class CourseBrowsingService {
             .id(article.getId())
             .title(article.getTitle())
             .content(article.getContent())
+            .contentType(article.getContentType())
             .build();
     }
-
-    // TODO : Implement this method to fetch the tutor name based on the tutorId
-    private String getTutorName(String tutorId) {
-        // Place Holder for actual implementation
-        return "Tutor Name";
-    }
 }
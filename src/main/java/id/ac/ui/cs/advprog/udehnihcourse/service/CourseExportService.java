@@ -0,0 +1,165 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Streams the whole course catalog, sections and articles included, as NDJSON:
+ * one course object per line.
+ * Rows come from a single forward-only scroll ordered by course, section and article id,
+ * and every entity is detached once written, so memory stays flat however large the catalog is.
+ * Design Pattern: Service Layer
+ */
+@Service
+public class CourseExportService {
+
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    static final int FETCH_SIZE = 500;
+
+    private static final String EXPORT_QUERY = "SELECT c, s, a FROM Course c "
+            + "LEFT JOIN c.sections s LEFT JOIN s.articles a LEFT JOIN FETCH a.body "
+            + "ORDER BY c.id, s.id, a.id";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+
+    public CourseExportService(EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes the catalog to the given stream. Runs in its own read-only transaction because
+     * it is called from the response-writing thread, outside the request's transaction.
+     * The stream is flushed but not closed.
+     */
+    public void exportCatalog(OutputStream out) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try {
+                writeCatalog(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeCatalog(OutputStream out) throws IOException {
+        Session session = entityManager.unwrap(Session.class);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+             ScrollableResults<Object[]> rows = session.createSelectionQuery(EXPORT_QUERY, Object[].class)
+                     .setReadOnly(true)
+                     .setCacheMode(CacheMode.IGNORE)
+                     .setFetchSize(FETCH_SIZE)
+                     .scroll(ScrollMode.FORWARD_ONLY)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Long currentCourseId = null;
+            Long currentSectionId = null;
+            while (rows.next()) {
+                Object[] row = rows.get();
+                Course course = (Course) row[0];
+                Section section = (Section) row[1];
+                Article article = (Article) row[2];
+
+                if (!Objects.equals(course.getId(), currentCourseId)) {
+                    if (currentCourseId != null) {
+                        endCourse(generator, currentSectionId != null);
+                        // Everything written so far is done with; drop it from the persistence context.
+                        session.clear();
+                    }
+                    startCourse(generator, course);
+                    currentCourseId = course.getId();
+                    currentSectionId = null;
+                }
+                if (section != null && !Objects.equals(section.getId(), currentSectionId)) {
+                    if (currentSectionId != null) {
+                        endSection(generator);
+                    }
+                    startSection(generator, section);
+                    currentSectionId = section.getId();
+                    session.detach(section);
+                }
+                if (article != null) {
+                    writeArticle(generator, article);
+                    session.detach(article);
+                }
+            }
+            if (currentCourseId != null) {
+                endCourse(generator, currentSectionId != null);
+            }
+            session.clear();
+            generator.flush();
+        }
+    }
+
+    private static void startCourse(JsonGenerator generator, Course course) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", course.getId());
+        generator.writeStringField("title", course.getTitle());
+        generator.writeStringField("description", course.getDescription());
+        generator.writeStringField("category", course.getCategory());
+        generator.writeStringField("tutorId", course.getTutorId());
+        generator.writeNumberField("price", course.getPrice());
+        generator.writeStringField("createdAt", format(course.getCreatedAt()));
+        generator.writeStringField("updatedAt", format(course.getUpdatedAt()));
+        generator.writeArrayFieldStart("sections");
+    }
+
+    private static void endCourse(JsonGenerator generator, boolean sectionOpen) throws IOException {
+        if (sectionOpen) {
+            endSection(generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void startSection(JsonGenerator generator, Section section) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", section.getId());
+        generator.writeStringField("title", section.getTitle());
+        generator.writeArrayFieldStart("articles");
+    }
+
+    private static void endSection(JsonGenerator generator) throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeArticle(JsonGenerator generator, Article article) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", article.getId());
+        generator.writeStringField("title", article.getTitle());
+        generator.writeStringField("contentType", article.getContentType());
+        generator.writeStringField("content", article.getContent());
+        generator.writeEndObject();
+    }
+
+    private static String format(LocalDateTime time) {
+        return time == null ? null : time.toString();
+    }
+}
@@ -0,0 +1,204 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseImportRecord;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseImportResponse;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseImportResult;
+import id.ac.ui.cs.advprog.udehnihcourse.event.CourseChangedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.importer.CourseImportWriter;
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorRegistrationRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Bulk import of full course trees from NDJSON, one course per line.
+ * The body is read line by line and valid records are written in fixed-size batches, each in its own
+ * transaction, so neither the request body nor the persistence context is ever held in memory whole.
+ * When a batch fails, its records are retried one by one so a single bad row only fails itself.
+ * Design Pattern: Service Layer
+ */
+@Service
+public class CourseImportService {
+
+    private final TutorRegistrationRepository tutorRegistrationRepository;
+    private final CourseImportWriter writer;
+    private final TransactionTemplate transaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public CourseImportService(TutorRegistrationRepository tutorRegistrationRepository,
+                               List<CourseImportWriter> writers,
+                               EntityManagerFactory entityManagerFactory,
+                               PlatformTransactionManager transactionManager,
+                               ApplicationEventPublisher eventPublisher,
+                               ObjectMapper objectMapper,
+                               @Value("${udehnih.import.batch-size:100}") int batchSize) {
+        this.tutorRegistrationRepository = tutorRegistrationRepository;
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.writer = writers.stream()
+                .filter(candidate -> candidate.supports(dialect))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No course import writer for " + dialect));
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    CourseImportWriter getWriter() {
+        return writer;
+    }
+
+    public CourseImportResponse importCourses(InputStream body, String tutorId) {
+        boolean isAcceptedTutor = tutorRegistrationRepository
+                .findByStudentIdAndStatus(tutorId, TutorRegistrationStatus.ACCEPTED)
+                .isPresent();
+        if (!isAcceptedTutor) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "User is not an authorized Tutor.");
+        }
+
+        List<CourseImportResult> results = new ArrayList<>();
+        List<PendingRecord> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                PendingRecord pending = parse(lineNumber, line, results);
+                if (pending == null) {
+                    continue;
+                }
+                batch.add(pending);
+                if (batch.size() == batchSize) {
+                    writeBatch(batch, tutorId, results);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, tutorId, results);
+        }
+
+        results.sort(Comparator.comparingInt(CourseImportResult::getLine));
+        int imported = (int) results.stream()
+                .filter(result -> result.getStatus() == CourseImportResult.Status.CREATED)
+                .count();
+        return CourseImportResponse.builder()
+                .imported(imported)
+                .failed(results.size() - imported)
+                .results(results)
+                .build();
+    }
+
+    private PendingRecord parse(int lineNumber, String line, List<CourseImportResult> results) {
+        CourseImportRecord record;
+        try {
+            record = objectMapper.readValue(line, CourseImportRecord.class);
+        } catch (JsonProcessingException e) {
+            results.add(CourseImportResult.failed(lineNumber, "Malformed JSON: " + e.getOriginalMessage()));
+            return null;
+        }
+        String error = validate(record);
+        if (error != null) {
+            results.add(CourseImportResult.failed(lineNumber, error));
+            return null;
+        }
+        return new PendingRecord(lineNumber, record);
+    }
+
+    private void writeBatch(List<PendingRecord> batch, String tutorId, List<CourseImportResult> results) {
+        List<CourseImportRecord> records = batch.stream().map(PendingRecord::record).toList();
+        try {
+            List<Long> courseIds = transaction.execute(status -> {
+                List<Long> ids = writer.write(records, tutorId);
+                // Inside the transaction, so the after-commit listeners (search index, caches) see them.
+                for (int i = 0; i < ids.size(); i++) {
+                    CourseImportRecord record = records.get(i);
+                    eventPublisher.publishEvent(CourseChangedEvent.created(ids.get(i), record.getTitle(), record.getCategory()));
+                }
+                return ids;
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                results.add(CourseImportResult.created(batch.get(i).line(), courseIds.get(i)));
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                results.add(CourseImportResult.failed(batch.get(0).line(), "Could not be saved: " + rootMessage(e)));
+                return;
+            }
+            for (PendingRecord pending : batch) {
+                writeBatch(List.of(pending), tutorId, results);
+            }
+        }
+    }
+
+    static String validate(CourseImportRecord record) {
+        if (record.getTitle() == null || record.getTitle().isBlank()) {
+            return "Course title is required";
+        }
+        if (record.getDescription() != null && record.getDescription().length() > 1000) {
+            return "Course description must be at most 1000 characters";
+        }
+        if (record.getPrice() != null && record.getPrice().compareTo(BigDecimal.ZERO) < 0) {
+            return "Course price must not be negative";
+        }
+        if (record.getSections() == null) {
+            record.setSections(List.of());
+        }
+        for (CourseImportRecord.SectionRecord section : record.getSections()) {
+            if (section.getTitle() == null || section.getTitle().isBlank()) {
+                return "Section title is required";
+            }
+            if (section.getArticles() == null) {
+                section.setArticles(List.of());
+            }
+            for (CourseImportRecord.ArticleRecord article : section.getArticles()) {
+                if (article.getTitle() == null || article.getTitle().isBlank()) {
+                    return "Article title is required in section '" + section.getTitle() + "'";
+                }
+                if (article.getContent() == null) {
+                    return "Article content is required for '" + article.getTitle() + "'";
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    private record PendingRecord(int line, CourseImportRecord record) {
+    }
+}
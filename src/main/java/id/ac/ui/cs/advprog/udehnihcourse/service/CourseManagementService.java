@@ -5,17 +5,21 @@ import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseResponse;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseUpdateRequest;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.course.TutorCourseListItem;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import id.ac.ui.cs.advprog.udehnihcourse.enrollment.EnrollmentCounter;
+import id.ac.ui.cs.advprog.udehnihcourse.event.CourseChangedEvent;
 import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
-import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleBodyStore;
 import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
-import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorRegistrationRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorCourseSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,14 +35,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class CourseManagementService {
 
     private final CourseRepository courseRepository;
-    private final TutorRegistrationRepository tutorRegistrationRepository;
-    // TODO: Inject service/client lain jika perlu (misal Enrollment Service untuk count)
+    private final AcceptedTutors acceptedTutors;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrollmentCounter enrollmentCounter;
+    private final ArticleBodyStore articleBodyStore;
 
     private void verifyUserIsAcceptedTutor(String tutorId) {
-        boolean isAcceptedTutor = tutorRegistrationRepository
-                .findByStudentIdAndStatus(tutorId, TutorRegistrationStatus.ACCEPTED)
-                .isPresent();
-        if (!isAcceptedTutor) {
+        if (!acceptedTutors.isAccepted(tutorId)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "User is not an authorized Tutor.");
         }
     }
@@ -55,6 +58,7 @@ public class CourseManagementService {
                 .build();
 
         Course savedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(CourseChangedEvent.created(savedCourse.getId(), savedCourse.getTitle(), savedCourse.getCategory()));
 
         return CourseResponse.builder()
                 .message("Course created successfully")
@@ -66,16 +70,18 @@ public class CourseManagementService {
     public List<TutorCourseListItem> getCoursesByTutor(String tutorId) {
         verifyUserIsAcceptedTutor(tutorId);
 
-        List<Course> courses = courseRepository.findByTutorId(tutorId);
+        List<TutorCourseSummary> courses = courseRepository.findSummariesByTutorId(tutorId);
+        // Counts are read separately so the cached course rows stay valid across enrollment flushes.
+        Map<Long, Long> enrollmentCounts = enrollmentCounter.enrollmentCounts(
+                courses.stream().map(TutorCourseSummary::id).toList());
         return courses.stream()
                 .map(course -> TutorCourseListItem.builder()
-                        .id(course.getId())
-                        .title(course.getTitle())
-                        .category(course.getCategory())
-                        .price(course.getPrice())
-                        // TODO: perlu enrollment count sungguhan dari Enrollment service
-                        .enrollmentCount(0)
-                        .createdAt(course.getCreatedAt())
+                        .id(course.id())
+                        .title(course.title())
+                        .category(course.category())
+                        .price(course.price())
+                        .enrollmentCount(enrollmentCounts.getOrDefault(course.id(), 0L))
+                        .createdAt(course.createdAt())
                         .build())
                 .collect(Collectors.toList());
     }
@@ -100,6 +106,7 @@ public class CourseManagementService {
         }
 
         courseRepository.save(course);
+        eventPublisher.publishEvent(CourseChangedEvent.updated(course.getId(), course.getTitle(), course.getCategory()));
 
         return CourseResponse.builder()
                 .message("Course updated successfully")
@@ -115,6 +122,8 @@ public class CourseManagementService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Not authorized to delete this course");
         }
 
+        articleBodyStore.releaseCourse(courseId);
         courseRepository.delete(course);
+        eventPublisher.publishEvent(CourseChangedEvent.deleted(courseId));
     }
 }
@@ -0,0 +1,109 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import id.ac.ui.cs.advprog.udehnihcourse.client.TutorLookupClient;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves tutor display names for course responses.
+ * All distinct ids of a response are resolved together: cached names are served locally and the
+ * rest go to the TutorLookupClient in one bulk call. Unknown ids are cached too (for a shorter TTL)
+ * so a missing user does not cause a remote call on every request.
+ */
+@Component
+public class TutorDirectory {
+
+    public static final String CACHE_NAME = "tutorNames";
+
+    // Marks a negative cache entry; real names are never empty.
+    private static final String UNKNOWN = "";
+
+    private final TutorLookupClient tutorLookupClient;
+    private final Cache<String, String> names;
+    private final DistributionSummary lookupsPerRequest;
+
+    public TutorDirectory(TutorLookupClient tutorLookupClient,
+                          MeterRegistry meterRegistry,
+                          @Value("${udehnih.tutor-directory.ttl:10m}") Duration ttl,
+                          @Value("${udehnih.tutor-directory.negative-ttl:1m}") Duration negativeTtl) {
+        this.tutorLookupClient = tutorLookupClient;
+        this.names = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfter(new Expiry<String, String>() {
+                    @Override
+                    public long expireAfterCreate(String tutorId, String name, long currentTime) {
+                        return (UNKNOWN.equals(name) ? negativeTtl : ttl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tutorId, String name, long currentTime, long currentDuration) {
+                        return expireAfterCreate(tutorId, name, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tutorId, String name, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, names, CACHE_NAME);
+        this.lookupsPerRequest = DistributionSummary.builder("tutor.directory.lookups")
+                .description("Tutor ids sent to the user service per resolved request")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns tutorId -> display name for every id that resolves; unknown ids are absent.
+     */
+    public Map<String, String> resolveNames(Collection<String> tutorIds) {
+        Set<String> distinctIds = new LinkedHashSet<>();
+        for (String tutorId : tutorIds) {
+            if (tutorId != null) {
+                distinctIds.add(tutorId);
+            }
+        }
+
+        int[] remoteLookups = {0};
+        Map<String, String> cached = names.getAll(distinctIds, missingIds -> {
+            remoteLookups[0] = missingIds.size();
+            Map<String, String> found = tutorLookupClient.findNamesByIds(new ArrayList<>(missingIds));
+            Map<String, String> loaded = new HashMap<>();
+            for (String tutorId : missingIds) {
+                loaded.put(tutorId, found.getOrDefault(tutorId, UNKNOWN));
+            }
+            return loaded;
+        });
+        lookupsPerRequest.record(remoteLookups[0]);
+
+        Map<String, String> result = new HashMap<>();
+        cached.forEach((tutorId, name) -> {
+            if (!UNKNOWN.equals(name)) {
+                result.put(tutorId, name);
+            }
+        });
+        return result;
+    }
+
+    public String resolveName(String tutorId) {
+        if (tutorId == null) {
+            return null;
+        }
+        return resolveNames(List.of(tutorId)).get(tutorId);
+    }
+}
@@ -1,19 +1,37 @@
 package id.ac.ui.cs.advprog.udehnihcourse.service;
 
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationDecisionResponse;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationDecisionResult;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationDetailResponse;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationQueueItem;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationQueuePage;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationRequest;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationResponse;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationStatusResponse;
+import id.ac.ui.cs.advprog.udehnihcourse.event.TutorRegistrationProcessedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.event.TutorRegistrationsProcessedEvent;
 import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistration;
 import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorApplicationClaim;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorApplicationSummary;
 import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorRegistrationRepository;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service class handling business logic for Tutor Applications.
@@ -25,7 +43,13 @@ import java.util.Optional;
 @Transactional
 public class TutorRegistrationService {
 
+    static final int DEFAULT_QUEUE_PAGE_SIZE = 20;
+    static final int MAX_QUEUE_PAGE_SIZE = 100;
+    static final int MAX_DECISION_BATCH_SIZE = 500;
+
     private final TutorRegistrationRepository tutorRegistrationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
     public TutorApplicationResponse applyAsTutor(TutorApplicationRequest request, String studentId) {
         // TODO: Integrate with Spring Security for studentId.
 
@@ -103,7 +127,131 @@ public class TutorRegistrationService {
 
         tutorRegistrationRepository.save(registration);
 
-        // TODO: Sending notif to Student (Observer Pattern via Spring Events or MQ)
-        //  kyk applicationEventPublisher.publishEvent(new TutorRegistrationProcessedEvent(this, registration));
+        // OutboxWriter records this in the same transaction; student notification consumes the outbox feed.
+        eventPublisher.publishEvent(new TutorRegistrationProcessedEvent(
+                registration.getId(), registration.getStudentId(), newStatus));
+    }
+
+    /**
+     * Applies one staff decision to many applications: the still-PENDING rows are locked first, then
+     * exactly those are updated with a single UPDATE. Other existing ids are reported as ALREADY_PROCESSED,
+     * unknown ids as NOT_FOUND.
+     * The applications actually changed are published together as one TutorRegistrationsProcessedEvent.
+     */
+    public TutorApplicationDecisionResponse decideRegistrationsByStaff(List<Long> applicationIds,
+                                                                       TutorRegistrationStatus newStatus,
+                                                                       String staffId) {
+        // TODO: Implement proper authorization check (ensure caller is Staff).
+
+        if (newStatus != TutorRegistrationStatus.ACCEPTED && newStatus != TutorRegistrationStatus.DENIED) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid status update by staff: " + newStatus);
+        }
+        if (applicationIds == null || applicationIds.isEmpty() || applicationIds.stream().anyMatch(Objects::isNull)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Application ids are required");
+        }
+        Set<Long> ids = new LinkedHashSet<>(applicationIds);
+        if (ids.size() > MAX_DECISION_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_DECISION_BATCH_SIZE + " applications per decision");
+        }
+
+        List<TutorApplicationClaim> claimed = tutorRegistrationRepository.claimPending(ids);
+        Set<Long> appliedIds = claimed.stream().map(TutorApplicationClaim::id).collect(Collectors.toSet());
+        if (!appliedIds.isEmpty()) {
+            int updated = tutorRegistrationRepository.decidePending(appliedIds, newStatus, LocalDateTime.now());
+            if (updated != appliedIds.size()) {
+                throw new IllegalStateException("Decided " + updated + " of " + appliedIds.size() + " locked applications");
+            }
+        }
+        // Only ids that were not claimed need telling apart: decided earlier, or never existed.
+        Set<Long> existingIds = appliedIds.size() == ids.size()
+                ? appliedIds
+                : new HashSet<>(tutorRegistrationRepository.findExistingIds(ids));
+
+        List<TutorApplicationDecisionResult> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TutorApplicationDecisionResult.Outcome outcome;
+            if (appliedIds.contains(id)) {
+                outcome = TutorApplicationDecisionResult.Outcome.APPLIED;
+            } else if (existingIds.contains(id)) {
+                outcome = TutorApplicationDecisionResult.Outcome.ALREADY_PROCESSED;
+            } else {
+                outcome = TutorApplicationDecisionResult.Outcome.NOT_FOUND;
+            }
+            results.add(new TutorApplicationDecisionResult(id, outcome));
+        }
+        List<TutorRegistrationProcessedEvent> processed = claimed.stream()
+                .map(claim -> new TutorRegistrationProcessedEvent(claim.id(), claim.studentId(), newStatus))
+                .toList();
+
+        if (!processed.isEmpty()) {
+            eventPublisher.publishEvent(new TutorRegistrationsProcessedEvent(processed));
+        }
+
+        return TutorApplicationDecisionResponse.builder()
+                .status(newStatus)
+                .applied(processed.size())
+                .results(results)
+                .build();
+    }
+
+    /**
+     * One page of the staff review queue, oldest submission first.
+     * Only the summary columns are read; the application text is loaded by getApplicationForReview.
+     */
+    @Transactional(readOnly = true)
+    public TutorApplicationQueuePage getReviewQueue(TutorRegistrationStatus status, String cursor, Integer size) {
+        // TODO: Implement proper authorization check (ensure caller is Staff).
+        TutorRegistrationStatus queueStatus = status == null ? TutorRegistrationStatus.PENDING : status;
+        int pageSize = size == null ? DEFAULT_QUEUE_PAGE_SIZE : Math.clamp(size, 1, MAX_QUEUE_PAGE_SIZE);
+        // Fetch one extra row to know whether another page exists without a count query.
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<TutorApplicationSummary> applications;
+        if (cursor == null || cursor.isBlank()) {
+            applications = tutorRegistrationRepository.findQueueFirstPage(queueStatus, limit);
+        } else {
+            TutorApplicationCursor after = TutorApplicationCursor.decode(cursor);
+            applications = tutorRegistrationRepository.findQueuePageAfter(queueStatus, after.submittedAt(), after.id(), limit);
+        }
+
+        boolean hasNext = applications.size() > pageSize;
+        List<TutorApplicationSummary> page = hasNext ? applications.subList(0, pageSize) : applications;
+        String nextCursor = null;
+        if (hasNext) {
+            TutorApplicationSummary last = page.get(page.size() - 1);
+            nextCursor = new TutorApplicationCursor(last.submittedAt(), last.id()).encode();
+        }
+
+        return TutorApplicationQueuePage.builder()
+                .applications(page.stream()
+                        .map(summary -> TutorApplicationQueueItem.builder()
+                                .applicationId(summary.id())
+                                .studentId(summary.studentId())
+                                .status(summary.status())
+                                .submittedAt(summary.submittedAt())
+                                .build())
+                        .toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public TutorApplicationDetailResponse getApplicationForReview(Long applicationId) {
+        // TODO: Implement proper authorization check (ensure caller is Staff).
+
+        TutorRegistration application = tutorRegistrationRepository.findById(applicationId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
+
+        return TutorApplicationDetailResponse.builder()
+                .applicationId(application.getId())
+                .studentId(application.getStudentId())
+                .status(application.getStatus())
+                .submittedAt(application.getSubmittedAt())
+                .processedAt(application.getProcessedAt())
+                .experience(application.getExperience())
+                .qualifications(application.getQualifications())
+                .bio(application.getBio())
+                .build();
     }
 }
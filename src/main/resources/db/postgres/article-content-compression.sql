@@ -0,0 +1,3 @@
+-- Compressed article bodies live in content_compressed, leaving content NULL.
+-- ddl-auto=update adds the new columns but never relaxes an existing NOT NULL.
+ALTER TABLE articles ALTER COLUMN content DROP NOT NULL;
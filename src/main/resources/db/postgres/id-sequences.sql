@@ -0,0 +1,7 @@
+-- Moves the id sequences past ids handed out by the former IDENTITY columns.
+-- Hibernate's pooled optimizer uses (value - 50, value] after each nextval, so every sequence is kept
+-- at least 50 above the largest existing id. Idempotent: a sequence that is already ahead is left alone.
+SELECT setval('courses_seq', greatest((SELECT last_value FROM courses_seq), (SELECT coalesce(max(id), 0) FROM courses) + 50));
+SELECT setval('sections_seq', greatest((SELECT last_value FROM sections_seq), (SELECT coalesce(max(id), 0) FROM sections) + 50));
+SELECT setval('articles_seq', greatest((SELECT last_value FROM articles_seq), (SELECT coalesce(max(id), 0) FROM articles) + 50));
+SELECT setval('tutor_applications_seq', greatest((SELECT last_value FROM tutor_applications_seq), (SELECT coalesce(max(application_id), 0) FROM tutor_applications) + 50));
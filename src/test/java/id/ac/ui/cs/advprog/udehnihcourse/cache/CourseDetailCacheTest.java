@@ -0,0 +1,114 @@
+package id.ac.ui.cs.advprog.udehnihcourse.cache;
+
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.ArticleDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.SectionDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.event.CourseChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CourseDetailCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CourseDetailCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CourseDetailCache(meterRegistry, 1_000_000, Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    private CourseDetailDTO load(Long id) {
+        loads.incrementAndGet();
+        return course(id, "content");
+    }
+
+    private static CourseDetailDTO course(Long id, String content) {
+        ArticleDTO article = new ArticleDTO(1L, "Article", content, "TEXT");
+        SectionDTO section = new SectionDTO(1L, "Section", List.of(article));
+        return new CourseDetailDTO(id, "Title", "Desc", "Tutor", BigDecimal.ONE, List.of(section));
+    }
+
+    @Test
+    void get_loadsOnceThenHits() {
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", CourseDetailCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", CourseDetailCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void onCourseChanged_updateAndDeleteInvalidate() {
+        cache.get(1L, this::load);
+        cache.onCourseChanged(CourseChangedEvent.updated(1L, "New", "Cat"));
+        cache.get(1L, this::load);
+        cache.onCourseChanged(CourseChangedEvent.deleted(1L));
+        cache.get(1L, this::load);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void onCourseChanged_createLeavesOtherEntries() {
+        cache.get(1L, this::load);
+        cache.onCourseChanged(CourseChangedEvent.created(2L, "Other", "Cat"));
+        cache.get(1L, this::load);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_whenLoaderThrows_cachesNothing() {
+        assertThrows(RuntimeException.class, () -> cache.get(1L, id -> {
+            throw new RuntimeException("Course not found");
+        }));
+
+        cache.get(1L, this::load);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_whenInvalidatedDuringLoad_doesNotKeepTheStaleResult() {
+        CourseDetailDTO stale = cache.get(1L, id -> {
+            cache.onCourseChanged(CourseChangedEvent.updated(id, "New", "Cat"));
+            return course(id, "stale");
+        });
+        CourseDetailDTO fresh = cache.get(1L, this::load);
+
+        assertEquals("stale", stale.getSections().get(0).getArticles().get(0).getContent());
+        assertEquals(1, loads.get());
+        assertEquals("content", fresh.getSections().get(0).getArticles().get(0).getContent());
+    }
+
+    @Test
+    void weigh_countsArticleContent() {
+        int small = CourseDetailCache.weigh(course(1L, "x"));
+        int large = CourseDetailCache.weigh(course(1L, "x".repeat(10_000)));
+
+        assertEquals(10_000 - 1, large - small);
+    }
+
+    @Test
+    void get_evictsWhenOverWeight() {
+        CourseDetailCache tinyCache = new CourseDetailCache(meterRegistry, 100, Duration.ofMinutes(10));
+        tinyCache.get(1L, id -> course(id, "x".repeat(1_000)));
+        tinyCache.cleanUp();
+        tinyCache.get(1L, this::load);
+
+        assertEquals(1, loads.get());
+    }
+}
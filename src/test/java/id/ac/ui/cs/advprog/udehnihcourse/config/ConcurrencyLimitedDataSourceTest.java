@@ -0,0 +1,64 @@
+package id.ac.ui.cs.advprog.udehnihcourse.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ConcurrencyLimitedDataSourceTest {
+    private DataSource target;
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void getConnection_whenLimitReached_timesOut() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        verify(target, times(2)).getConnection();
+    }
+
+    @Test
+    void close_releasesPermitExactlyOnce() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        assertEquals(1, dataSource.availablePermits());
+
+        connection.close();
+        connection.close();
+
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    @Test
+    void getConnection_whenTargetFails_releasesPermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    @Test
+    void connectionCalls_areDelegated() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        connection.setAutoCommit(false);
+
+        assertNotEquals(null, connection);
+        assertEquals(connection, connection);
+    }
+}
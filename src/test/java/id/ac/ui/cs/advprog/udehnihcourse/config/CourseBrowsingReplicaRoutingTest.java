@@ -0,0 +1,48 @@
+package id.ac.ui.cs.advprog.udehnihcourse.config;
+
+import id.ac.ui.cs.advprog.udehnihcourse.service.CourseBrowsingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The replica points at the primary's database, standing in for a replica that is fully caught up.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:browse-routing;DB_CLOSE_DELAY=-1",
+        "udehnih.datasource.replica.url=jdbc:h2:mem:browse-routing;DB_CLOSE_DELAY=-1",
+        "udehnih.datasource.replica.username=sa"
+})
+public class CourseBrowsingReplicaRoutingTest {
+    @Autowired
+    private CourseBrowsingService courseBrowsingService;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        replicaLagMonitor.check();
+        replicaLagMonitor.check();
+        assertTrue(replicaLagMonitor.isReplicaUsable());
+    }
+
+    @Test
+    void browseCalls_runReadOnlyAndGoToReplica() {
+        double replicaRoutes = routes("replica");
+
+        courseBrowsingService.getAllCourses();
+        courseBrowsingService.getCoursePage(null, null);
+
+        assertTrue(routes("replica") >= replicaRoutes + 2);
+    }
+
+    private double routes(String route) {
+        return meterRegistry.get(ReadWriteRoutingDataSource.ROUTE_COUNTER).tag("route", route).counter().count();
+    }
+}
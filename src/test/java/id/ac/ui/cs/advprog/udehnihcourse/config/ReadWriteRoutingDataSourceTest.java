@@ -0,0 +1,148 @@
+package id.ac.ui.cs.advprog.udehnihcourse.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadWriteRoutingDataSourceTest {
+    private DataSource primary;
+    private DataSource replica;
+    private MutableClock clock;
+    private ReplicaLagMonitor lagMonitor;
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        new JdbcTemplate(primary).execute("CREATE TABLE node (name VARCHAR(20))");
+        new JdbcTemplate(primary).update("INSERT INTO node VALUES ('primary')");
+        new JdbcTemplate(replica).execute("CREATE TABLE node (name VARCHAR(20))");
+        new JdbcTemplate(replica).update("INSERT INTO node VALUES ('replica')");
+
+        clock = new MutableClock();
+        lagMonitor = new ReplicaLagMonitor(primary, replica, Duration.ofSeconds(5), clock);
+        lagMonitor.initialize();
+        new JdbcTemplate(replica).execute("CREATE TABLE replication_heartbeat (id INT PRIMARY KEY, beat_millis BIGINT NOT NULL)");
+        meterRegistry = new SimpleMeterRegistry();
+
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, lagMonitor, meterRegistry));
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    void readOnlyTransaction_whenReplicaCaughtUp_goesToReplica() {
+        replicateHeartbeatAfterCheck();
+
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentNode()));
+        assertEquals(1, routes("replica"));
+    }
+
+    @Test
+    void writeTransaction_alwaysGoesToPrimary() {
+        replicateHeartbeatAfterCheck();
+
+        assertEquals("primary", writeTransaction.execute(status -> currentNode()));
+        assertEquals(0, routes("replica"));
+    }
+
+    @Test
+    void readOnlyTransaction_whenReplicaLagging_fallsBackToPrimary() {
+        lagMonitor.check();
+        copyHeartbeatToReplica();
+        clock.advance(Duration.ofSeconds(10));
+        lagMonitor.check();
+        clock.advance(Duration.ofSeconds(1));
+        // The replica still holds the heartbeat from two checks ago, written 11 seconds before this probe.
+        lagMonitor.check();
+
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertEquals(Duration.ofSeconds(11), lagMonitor.currentLag());
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+        assertEquals(1, routes("primary-fallback"));
+    }
+
+    @Test
+    void readOnlyTransaction_beforeFirstCheck_fallsBackToPrimary() {
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void withoutTransaction_goesToPrimary() {
+        replicateHeartbeatAfterCheck();
+
+        assertEquals("primary", currentNode());
+    }
+
+    private void replicateHeartbeatAfterCheck() {
+        lagMonitor.check();
+        copyHeartbeatToReplica();
+        clock.advance(Duration.ofSeconds(2));
+        lagMonitor.check();
+        assertTrue(lagMonitor.isReplicaUsable());
+    }
+
+    private void copyHeartbeatToReplica() {
+        Long beat = new JdbcTemplate(primary).queryForObject("SELECT beat_millis FROM replication_heartbeat", Long.class);
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        replicaTemplate.update("DELETE FROM replication_heartbeat");
+        replicaTemplate.update("INSERT INTO replication_heartbeat VALUES (1, ?)", beat);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private double routes(String route) {
+        return meterRegistry.get(ReadWriteRoutingDataSource.ROUTE_COUNTER).tag("route", route).counter().count();
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
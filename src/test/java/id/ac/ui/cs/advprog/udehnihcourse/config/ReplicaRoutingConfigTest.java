@@ -0,0 +1,52 @@
+package id.ac.ui.cs.advprog.udehnihcourse.config;
+
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "udehnih.datasource.replica.url=jdbc:h2:mem:routing-config-replica;DB_CLOSE_DELAY=-1",
+        "udehnih.datasource.replica.username=sa"
+})
+public class ReplicaRoutingConfigTest {
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void routingDataSource_isPrimaryAndPoolsAreMeteredSeparately() {
+        assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource);
+        // The replica never saw the schema, so its heartbeat check fails and reads stay on the primary.
+        replicaLagMonitor.check();
+        replicaLagMonitor.check();
+        assertFalse(replicaLagMonitor.isReplicaUsable());
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        assertEquals(Long.valueOf(0), readOnlyTransaction.execute(status -> courseRepository.count()));
+
+        assertNotNull(meterRegistry.find("hikaricp.connections.max").tag("pool", "primary").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.max").tag("pool", "replica").gauge());
+        assertTrue(meterRegistry.get(ReadWriteRoutingDataSource.ROUTE_COUNTER)
+                .tag("route", "primary-fallback").counter().count() > 0);
+    }
+}
@@ -6,7 +6,19 @@ import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseCreateRequest;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseResponse;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseUpdateRequest;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.course.TutorCourseListItem;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.ArticleDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CourseListDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CoursePageDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.enrollment.EnrollmentCounter;
+import id.ac.ui.cs.advprog.udehnihcourse.model.ArticleContentCodec;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleContent;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseVersion;
 import id.ac.ui.cs.advprog.udehnihcourse.service.CourseBrowsingService;
+import id.ac.ui.cs.advprog.udehnihcourse.service.CourseExportService;
+import id.ac.ui.cs.advprog.udehnihcourse.service.CourseImportService;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseImportResponse;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseImportResult;
 import id.ac.ui.cs.advprog.udehnihcourse.service.CourseManagementService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,16 +30,22 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -46,6 +64,15 @@ public class CourseManagementControllerTest {
     @MockitoBean
     private CourseBrowsingService courseBrowsingService;
 
+    @MockitoBean
+    private CourseExportService courseExportService;
+
+    @MockitoBean
+    private CourseImportService courseImportService;
+
+    @MockitoBean
+    private EnrollmentCounter enrollmentCounter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -53,6 +80,8 @@ public class CourseManagementControllerTest {
     private CourseUpdateRequest updateRequest;
     private CourseResponse courseResponse;
     private Long courseId = 1L;
+    private LocalDateTime updatedAt = LocalDateTime.of(2025, 5, 1, 10, 0);
+    private CourseVersion courseVersion = new CourseVersion(courseId, updatedAt, 3L);
 
     @BeforeEach
     void setUp() {
@@ -71,6 +100,8 @@ public class CourseManagementControllerTest {
                 .message("Operation successful")
                 .courseId(courseId)
                 .build();
+
+        lenient().when(courseBrowsingService.getCourseVersion(courseId)).thenReturn(courseVersion);
     }
 
     @Test
@@ -204,4 +235,278 @@ public class CourseManagementControllerTest {
 
         verify(courseManagementService, times(1)).deleteCourse(eq(courseId), eq("tutor-test"));
     }
+
+    @Test
+    @WithMockUser
+    void getAllCourses_withoutPagingParams_shouldReturnFullList() throws Exception {
+        CourseListDTO listItem = new CourseListDTO(courseId, "Course", new BigDecimal("10.00"), "Tutor Name", 0L);
+        when(courseBrowsingService.getAllCourses()).thenReturn(List.of(listItem));
+
+        mockMvc.perform(get("/api/courses"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(courseId))
+                .andExpect(header().doesNotExist(CourseManagementController.NEXT_CURSOR_HEADER));
+
+        verify(courseBrowsingService, never()).getCoursePage(any(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void getAllCourses_withPageSize_shouldReturnPageAndNextCursorHeader() throws Exception {
+        CourseListDTO listItem = new CourseListDTO(courseId, "Course", new BigDecimal("10.00"), "Tutor Name", 0L);
+        when(courseBrowsingService.getCoursePage(null, 1))
+                .thenReturn(new CoursePageDTO(List.of(listItem), "next-cursor"));
+
+        mockMvc.perform(get("/api/courses").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(courseId))
+                .andExpect(header().string(CourseManagementController.NEXT_CURSOR_HEADER, "next-cursor"));
+
+        verify(courseBrowsingService, never()).getAllCourses();
+    }
+
+    @Test
+    @WithMockUser
+    void getCourseById_shouldBindPathVariable() throws Exception {
+        CourseDetailDTO detail = new CourseDetailDTO(courseId, "Course", "Desc", "Tutor Name", BigDecimal.TEN, List.of());
+        when(courseBrowsingService.getCourseById(courseId)).thenReturn(detail);
+
+        mockMvc.perform(get("/api/courses/{courseId}", courseId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(courseId));
+
+        verify(courseBrowsingService, never()).getCourseOutline(anyLong());
+    }
+
+    @Test
+    @WithMockUser
+    void getCourseById_withOutline_shouldReturnOutline() throws Exception {
+        CourseDetailDTO outline = new CourseDetailDTO(courseId, "Course", "Desc", "Tutor Name", BigDecimal.TEN, List.of());
+        when(courseBrowsingService.getCourseOutline(courseId)).thenReturn(outline);
+
+        mockMvc.perform(get("/api/courses/{courseId}", courseId).param("outline", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(courseId));
+
+        verify(courseBrowsingService, never()).getCourseById(anyLong());
+    }
+
+    @Test
+    @WithMockUser
+    void getArticle_shouldReturnArticleContent() throws Exception {
+        when(courseBrowsingService.getArticle(courseId, 5L)).thenReturn(new ArticleDTO(5L, "Article", "Body", "TEXT"));
+
+        mockMvc.perform(get("/api/courses/{courseId}/articles/{articleId}", courseId, 5L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("Body"));
+    }
+
+    @Test
+    @WithMockUser
+    void getArticle_whenMissing_shouldReturnNotFound() throws Exception {
+        when(courseBrowsingService.getArticle(courseId, 5L))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Article not found"));
+
+        mockMvc.perform(get("/api/courses/{courseId}/articles/{articleId}", courseId, 5L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void getArticleContent_whenCompressedAndClientAcceptsGzip_shouldSendStoredBytes() throws Exception {
+        byte[] gzipped = ArticleContentCodec.gzip("# Heading");
+        when(courseBrowsingService.getArticleContent(courseId, 5L))
+                .thenReturn(new ArticleContent(5L, "MARKDOWN", null, gzipped, ArticleContentCodec.GZIP, null));
+
+        mockMvc.perform(get("/api/courses/{courseId}/articles/{articleId}/content", courseId, 5L)
+                        .header("Accept-Encoding", "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andExpect(content().contentType("text/markdown;charset=UTF-8"))
+                .andExpect(content().bytes(gzipped));
+    }
+
+    @Test
+    @WithMockUser
+    void getArticleContent_whenClientRefusesGzip_shouldDecompress() throws Exception {
+        when(courseBrowsingService.getArticleContent(courseId, 5L))
+                .thenReturn(new ArticleContent(5L, "TEXT", null, ArticleContentCodec.gzip("Body"), ArticleContentCodec.GZIP, null));
+
+        mockMvc.perform(get("/api/courses/{courseId}/articles/{articleId}/content", courseId, 5L)
+                        .header("Accept-Encoding", "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().contentType("text/plain;charset=UTF-8"))
+                .andExpect(content().string("Body"));
+    }
+
+    @Test
+    @WithMockUser
+    void getArticleContent_whenStoredPlain_shouldSendItUnencoded() throws Exception {
+        when(courseBrowsingService.getArticleContent(courseId, 5L))
+                .thenReturn(new ArticleContent(5L, "HTML", "<p>Body</p>", null, ArticleContentCodec.PLAIN, null));
+
+        mockMvc.perform(get("/api/courses/{courseId}/articles/{articleId}/content", courseId, 5L)
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().contentType("text/html;charset=UTF-8"))
+                .andExpect(content().string("<p>Body</p>"));
+    }
+
+    @Test
+    @WithMockUser
+    void getArticleContent_whenSharedBody_usesContentHashAsETagPerEncoding() throws Exception {
+        when(courseBrowsingService.getArticleContent(courseId, 5L))
+                .thenReturn(new ArticleContent(5L, "TEXT", null, ArticleContentCodec.gzip("Body"), ArticleContentCodec.GZIP, "abc123"));
+
+        mockMvc.perform(get("/api/courses/{courseId}/articles/{articleId}/content", courseId, 5L)
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc123-gzip\""));
+
+        mockMvc.perform(get("/api/courses/{courseId}/articles/{articleId}/content", courseId, 5L)
+                        .header("If-None-Match", "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser
+    void getCourseById_shouldSendValidators() throws Exception {
+        CourseDetailDTO detail = new CourseDetailDTO(courseId, "Course", "Desc", "Tutor Name", BigDecimal.TEN, List.of());
+        when(courseBrowsingService.getCourseById(courseId)).thenReturn(detail);
+
+        mockMvc.perform(get("/api/courses/{courseId}", courseId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-" + epochMillis(updatedAt) + "-3\""))
+                .andExpect(header().exists("Last-Modified"));
+    }
+
+    @Test
+    @WithMockUser
+    void getCourseById_whenETagMatches_shouldReturnNotModifiedWithoutLoadingCourse() throws Exception {
+        mockMvc.perform(get("/api/courses/{courseId}", courseId)
+                        .header("If-None-Match", "\"1-" + epochMillis(updatedAt) + "-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(courseBrowsingService, never()).getCourseById(anyLong());
+        verify(courseBrowsingService, never()).getCourseOutline(anyLong());
+    }
+
+    @Test
+    @WithMockUser
+    void getCourseById_whenContentVersionChanged_shouldReturnBody() throws Exception {
+        CourseDetailDTO detail = new CourseDetailDTO(courseId, "Course", "Desc", "Tutor Name", BigDecimal.TEN, List.of());
+        when(courseBrowsingService.getCourseById(courseId)).thenReturn(detail);
+
+        mockMvc.perform(get("/api/courses/{courseId}", courseId)
+                        .header("If-None-Match", "\"1-" + epochMillis(updatedAt) + "-2\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(courseId));
+    }
+
+    @Test
+    @WithMockUser
+    void getCourseById_whenNotModifiedSince_shouldReturnNotModified() throws Exception {
+        mockMvc.perform(get("/api/courses/{courseId}", courseId)
+                        .header("If-Modified-Since", epochMillis(updatedAt.plusMinutes(1))))
+                .andExpect(status().isNotModified());
+
+        verify(courseBrowsingService, never()).getCourseById(anyLong());
+    }
+
+    @Test
+    @WithMockUser
+    void getCourseById_whenMissing_shouldReturnNotFound() throws Exception {
+        when(courseBrowsingService.getCourseVersion(courseId))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Course not found"));
+
+        mockMvc.perform(get("/api/courses/{courseId}", courseId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void getAllCourses_whenPageUnchanged_shouldReturnNotModified() throws Exception {
+        CourseListDTO listItem = new CourseListDTO(courseId, "Course", new BigDecimal("10.00"), "Tutor Name", 0L);
+        when(courseBrowsingService.getAllCourses()).thenReturn(List.of(listItem));
+        String eTag = mockMvc.perform(get("/api/courses"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/courses").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser
+    void getAllCourses_whenEnrollmentCountChanges_shouldReturnBody() throws Exception {
+        CourseListDTO listItem = new CourseListDTO(courseId, "Course", new BigDecimal("10.00"), "Tutor Name", 0L);
+        when(courseBrowsingService.getAllCourses()).thenReturn(List.of(listItem));
+        String eTag = mockMvc.perform(get("/api/courses"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        listItem.setEnrollmentCount(1L);
+        mockMvc.perform(get("/api/courses").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].enrollmentCount").value(1));
+    }
+
+    @Test
+    @WithMockUser
+    void exportCourses_shouldStreamNdjson() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(courseExportService).exportCatalog(any());
+
+        MvcResult result = mockMvc.perform(get("/api/courses/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CourseExportService.NDJSON_MEDIA_TYPE))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    @WithMockUser(username = "tutor-test")
+    void importCourses_shouldReturnPerLineResults() throws Exception {
+        CourseImportResponse response = CourseImportResponse.builder()
+                .imported(1)
+                .failed(1)
+                .results(List.of(CourseImportResult.created(1, 10L), CourseImportResult.failed(2, "Course title is required")))
+                .build();
+        when(courseImportService.importCourses(any(InputStream.class), eq("tutor-test"))).thenReturn(response);
+
+        mockMvc.perform(post("/api/courses/import").with(csrf())
+                        .contentType(CourseExportService.NDJSON_MEDIA_TYPE)
+                        .content("{\"title\":\"A\"}\n{}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.results[0].courseId").value(10))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[1].error").value("Course title is required"));
+    }
+
+    @Test
+    @WithMockUser
+    void recordEnrollment_shouldCountInMemoryAndReturnAccepted() throws Exception {
+        mockMvc.perform(post("/api/courses/{courseId}/enrollments", courseId).with(csrf()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.message").value("Enrollment recorded"));
+
+        verify(enrollmentCounter, times(1)).increment(courseId);
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
@@ -0,0 +1,121 @@
+package id.ac.ui.cs.advprog.udehnihcourse.controller;
+
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationDecisionResponse;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationDecisionResult;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationDetailResponse;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationQueueItem;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationQueuePage;
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import id.ac.ui.cs.advprog.udehnihcourse.service.TutorRegistrationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TutorApplicationReviewController.class)
+public class TutorApplicationReviewControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TutorRegistrationService tutorRegistrationService;
+
+    @Test
+    @WithMockUser
+    void getReviewQueue_whenMorePages_returnsItemsAndCursorHeader() throws Exception {
+        TutorApplicationQueueItem item = TutorApplicationQueueItem.builder()
+                .applicationId(1L)
+                .studentId("student-1")
+                .status(TutorRegistrationStatus.PENDING)
+                .submittedAt(LocalDateTime.now().minusDays(1))
+                .build();
+        when(tutorRegistrationService.getReviewQueue(TutorRegistrationStatus.PENDING, "abc", 1))
+                .thenReturn(new TutorApplicationQueuePage(List.of(item), "next"));
+
+        mockMvc.perform(get("/api/staff/tutor-applications")
+                        .param("status", "PENDING")
+                        .param("cursor", "abc")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CourseManagementController.NEXT_CURSOR_HEADER, "next"))
+                .andExpect(jsonPath("$.applications[0].applicationId").value(1))
+                .andExpect(jsonPath("$.applications[0].experience").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @WithMockUser
+    void getReviewQueue_whenLastPage_omitsCursorHeader() throws Exception {
+        when(tutorRegistrationService.getReviewQueue(null, null, null))
+                .thenReturn(new TutorApplicationQueuePage(List.of(), null));
+
+        mockMvc.perform(get("/api/staff/tutor-applications"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CourseManagementController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.applications").isEmpty());
+    }
+
+    @Test
+    @WithMockUser
+    void getApplication_whenFound_returnsFullApplication() throws Exception {
+        when(tutorRegistrationService.getApplicationForReview(1L)).thenReturn(TutorApplicationDetailResponse.builder()
+                .applicationId(1L)
+                .studentId("student-1")
+                .status(TutorRegistrationStatus.PENDING)
+                .experience("Exp")
+                .qualifications("Qual")
+                .bio("Bio")
+                .build());
+
+        mockMvc.perform(get("/api/staff/tutor-applications/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.experience").value("Exp"))
+                .andExpect(jsonPath("$.bio").value("Bio"));
+    }
+
+    @Test
+    @WithMockUser
+    void getApplication_whenMissing_returnsNotFound() throws Exception {
+        when(tutorRegistrationService.getApplicationForReview(99L))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
+
+        mockMvc.perform(get("/api/staff/tutor-applications/99"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void decideApplications_returnsOutcomePerId() throws Exception {
+        when(tutorRegistrationService.decideRegistrationsByStaff(List.of(1L, 2L), TutorRegistrationStatus.ACCEPTED, "staff-test"))
+                .thenReturn(TutorApplicationDecisionResponse.builder()
+                        .status(TutorRegistrationStatus.ACCEPTED)
+                        .applied(1)
+                        .results(List.of(
+                                new TutorApplicationDecisionResult(1L, TutorApplicationDecisionResult.Outcome.APPLIED),
+                                new TutorApplicationDecisionResult(2L, TutorApplicationDecisionResult.Outcome.NOT_FOUND)))
+                        .build());
+
+        mockMvc.perform(post("/api/staff/tutor-applications/decisions")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"applicationIds\":[1,2],\"status\":\"ACCEPTED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("APPLIED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"));
+    }
+}
@@ -0,0 +1,168 @@
+package id.ac.ui.cs.advprog.udehnihcourse.enrollment;
+
+import id.ac.ui.cs.advprog.udehnihcourse.event.CourseChangedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.event.CourseEnrolledEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.CourseEnrollmentCount;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseEnrollmentCountRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class EnrollmentCounterTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseEnrollmentCountRepository countRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private EnrollmentCounter enrollmentCounter;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentCounter = new EnrollmentCounter(courseRepository, countRepository, transactionManager);
+        course = entityManager.persistFlushFind(Course.builder().title("Hot Course").tutorId("tutor-1").build());
+    }
+
+    @Test
+    void increment_isVisibleAsPendingBeforeFlush() {
+        enrollmentCounter.increment(course.getId());
+        enrollmentCounter.onCourseEnrolled(new CourseEnrolledEvent(course.getId()));
+
+        assertEquals(2, enrollmentCounter.pendingDelta(course.getId()));
+        assertEquals(0, persistedCount(course.getId()));
+    }
+
+    @Test
+    void flush_movesPendingDeltasIntoCountRows() {
+        Course other = entityManager.persistFlushFind(Course.builder().title("Other").tutorId("tutor-1").build());
+        enrollmentCounter.add(course.getId(), 3);
+        enrollmentCounter.add(other.getId(), 3);
+        enrollmentCounter.increment(other.getId());
+
+        enrollmentCounter.flush();
+
+        assertEquals(3, persistedCount(course.getId()));
+        assertEquals(4, persistedCount(other.getId()));
+        assertEquals(0, enrollmentCounter.pendingDelta(course.getId()));
+        assertEquals(0, enrollmentCounter.pendingDelta(other.getId()));
+    }
+
+    @Test
+    void flush_addsToExistingCountRow() {
+        enrollmentCounter.add(course.getId(), 2);
+        enrollmentCounter.flush();
+        enrollmentCounter.add(course.getId(), 3);
+        enrollmentCounter.flush();
+
+        assertEquals(5, persistedCount(course.getId()));
+    }
+
+    @Test
+    void enrollmentCounts_mergesPersistedAndPending() {
+        Course other = entityManager.persistFlushFind(Course.builder().title("Other").tutorId("tutor-1").build());
+        enrollmentCounter.add(course.getId(), 4);
+        enrollmentCounter.flush();
+        enrollmentCounter.increment(course.getId());
+
+        assertEquals(Map.of(course.getId(), 5L, other.getId(), 0L),
+                enrollmentCounter.enrollmentCounts(List.of(course.getId(), other.getId())));
+    }
+
+    @Test
+    void flush_isNotOverwrittenByLaterEntityUpdate() {
+        Course managed = entityManager.find(Course.class, course.getId());
+        enrollmentCounter.add(course.getId(), 5);
+        enrollmentCounter.flush();
+
+        managed.setTitle("Renamed");
+        entityManager.flush();
+
+        assertEquals(5, persistedCount(course.getId()));
+    }
+
+    @Test
+    void flush_forgetsCoursesThatDoNotExist() {
+        enrollmentCounter.increment(-1L);
+
+        enrollmentCounter.flush();
+        enrollmentCounter.increment(course.getId());
+        enrollmentCounter.flush();
+
+        assertEquals(0, enrollmentCounter.pendingDelta(-1L));
+        assertEquals(1, persistedCount(course.getId()));
+    }
+
+    @Test
+    void onCourseDeleted_dropsPendingDelta() {
+        enrollmentCounter.increment(course.getId());
+
+        enrollmentCounter.onCourseChanged(CourseChangedEvent.deleted(course.getId()));
+
+        assertEquals(0, enrollmentCounter.pendingDelta(course.getId()));
+    }
+
+    @Test
+    void onCourseDeleting_removesCountRow() {
+        enrollmentCounter.increment(course.getId());
+        enrollmentCounter.flush();
+
+        enrollmentCounter.onCourseDeleting(CourseChangedEvent.deleted(course.getId()));
+        entityManager.flush();
+
+        assertFalse(countRepository.existsById(course.getId()));
+    }
+
+    @Test
+    void concurrentIncrements_areNeverLost() throws Exception {
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < perThread; j++) {
+                        enrollmentCounter.increment(course.getId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        enrollmentCounter.flush();
+
+        assertEquals((long) threads * perThread, persistedCount(course.getId()));
+    }
+
+    private long persistedCount(Long courseId) {
+        entityManager.clear();
+        CourseEnrollmentCount count = entityManager.find(CourseEnrollmentCount.class, courseId);
+        return count == null ? 0 : count.getEnrollmentCount();
+    }
+}
@@ -0,0 +1,63 @@
+package id.ac.ui.cs.advprog.udehnihcourse.importer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The H2 schema is generated from the entity mapping, so it stands in for the mapped PostgreSQL tables.
+@DataJpaTest
+public class PostgresCopyCourseImportWriterTest {
+    private static final Pattern COPY_STATEMENT = Pattern.compile("COPY (\\w+) \\(([^)]*)\\)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void copyColumns_matchTheMappedCoursesTable() {
+        assertCopyMatchesTable(PostgresCopyCourseImportWriter.COPY_COURSES);
+    }
+
+    @Test
+    void copyColumns_matchTheMappedSectionsTable() {
+        assertCopyMatchesTable(PostgresCopyCourseImportWriter.COPY_SECTIONS);
+    }
+
+    @Test
+    void copyColumns_matchTheMappedArticlesTable() {
+        assertCopyMatchesTable(PostgresCopyCourseImportWriter.COPY_ARTICLES);
+    }
+
+    private void assertCopyMatchesTable(String copy) {
+        Matcher matcher = COPY_STATEMENT.matcher(copy);
+        assertTrue(matcher.find(), copy);
+        String table = matcher.group(1).toUpperCase(Locale.ROOT);
+        Set<String> copied = new HashSet<>();
+        Arrays.stream(matcher.group(2).split(","))
+                .map(column -> column.trim().toUpperCase(Locale.ROOT))
+                .forEach(copied::add);
+
+        Set<String> mapped = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT column_name FROM information_schema.columns WHERE table_name = ?", String.class, table));
+        assertFalse(mapped.isEmpty(), "no mapped table " + table);
+        for (String column : copied) {
+            assertTrue(mapped.contains(column), table + " has no column " + column);
+        }
+
+        List<String> required = jdbcTemplate.queryForList("SELECT column_name FROM information_schema.columns "
+                + "WHERE table_name = ? AND is_nullable = 'NO' AND column_default IS NULL", String.class, table);
+        for (String column : required) {
+            assertTrue(copied.contains(column), "COPY into " + table + " leaves out required column " + column);
+        }
+    }
+}
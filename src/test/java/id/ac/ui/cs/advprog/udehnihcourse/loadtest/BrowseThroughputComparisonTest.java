@@ -0,0 +1,82 @@
+package id.ac.ui.cs.advprog.udehnihcourse.loadtest;
+
+import id.ac.ui.cs.advprog.udehnihcourse.loadtest.DatasetGenerator.Dataset;
+import id.ac.ui.cs.advprog.udehnihcourse.loadtest.LoadDriver.Endpoint;
+import id.ac.ui.cs.advprog.udehnihcourse.loadtest.LoadDriver.EndpointStats;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares browse-endpoint throughput with platform threads and with virtual threads.
+ * Boots the application twice, drives both with the same closed-loop load
+ * and prints requests per second and latency percentiles for each mode.
+ * Not part of the regular build: run with ./gradlew loadTest
+ * (tune with -Dloadtest.concurrency and -Dloadtest.seconds).
+ */
+@Tag("loadtest")
+public class BrowseThroughputComparisonTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 400);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("loadtest.seconds", 15));
+    private static final DatasetGenerator.Shape SHAPE = new DatasetGenerator.Shape(20, 500, 5, 0);
+
+    private record Result(String mode, long requests, long errors, double throughput, double p50Millis, double p99Millis) {
+
+        @Override
+        public String toString() {
+            return String.format("%-8s %8d req %6d err %10.1f req/s  p50 %8.2f ms  p99 %8.2f ms",
+                    mode, requests, errors, throughput, p50Millis, p99Millis);
+        }
+    }
+
+    @Test
+    void compareBrowseThroughput() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.println("Browse throughput, " + CONCURRENCY + " concurrent clients, " + MEASUREMENT.toSeconds() + "s");
+        System.out.println(platform);
+        System.out.println(virtual);
+
+        assertTrue(platform.requests() > 0 && virtual.requests() > 0);
+        assertEquals(0, platform.errors());
+        assertEquals(0, virtual.errors());
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (LoadTestServer server = LoadTestServer.start("loadtest-" + mode, virtualThreads)) {
+            Dataset dataset = DatasetGenerator.generate(server, SHAPE);
+            List<Endpoint> endpoints = browseEndpoints(dataset.courseIds());
+            LoadDriver.run(server.baseUrl(), endpoints, CONCURRENCY, WARMUP);
+            return summarize(mode, LoadDriver.run(server.baseUrl(), endpoints, CONCURRENCY, MEASUREMENT).values());
+        }
+    }
+
+    private static List<Endpoint> browseEndpoints(List<Long> courseIds) {
+        return List.of(
+                new Endpoint("list", 1, random -> "/api/courses?size=20"),
+                new Endpoint("outline", 1, random -> "/api/courses/" + courseIds.get(random.nextInt(courseIds.size())) + "?outline=true"),
+                new Endpoint("search", 1, random -> "/api/courses/search?keyword=java&size=20"));
+    }
+
+    private static Result summarize(String mode, Collection<EndpointStats> stats) {
+        long[] all = stats.stream()
+                .flatMapToLong(endpoint -> Arrays.stream(endpoint.latenciesMicros()))
+                .sorted()
+                .toArray();
+        double seconds = stats.iterator().next().seconds();
+        EndpointStats merged = new EndpointStats(mode, all, stats.stream().mapToLong(EndpointStats::errors).sum(), seconds);
+        return new Result(mode, merged.requests(), merged.errors(), merged.throughput(),
+                merged.percentileMillis(0.50), merged.percentileMillis(0.99));
+    }
+}
@@ -0,0 +1,89 @@
+package id.ac.ui.cs.advprog.udehnihcourse.loadtest;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistration;
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorRegistrationRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills a freshly booted application with a deterministic synthetic catalog.
+ * Tutor 0 is "tutor-test", the identity the tutor endpoints currently act as.
+ */
+public final class DatasetGenerator {
+
+    public static final String CURRENT_TUTOR_ID = "tutor-test";
+    public static final List<String> KEYWORDS = List.of("java", "python", "data", "web", "design", "cloud");
+
+    private static final int BATCH_SIZE = 200;
+
+    public record Shape(int tutors, int courses, int sectionsPerCourse, int articlesPerSection) {
+    }
+
+    public record Dataset(Shape shape, List<Long> courseIds) {
+    }
+
+    private DatasetGenerator() {
+    }
+
+    public static Dataset generate(LoadTestServer server, Shape shape) {
+        TutorRegistrationRepository registrations = server.getBean(TutorRegistrationRepository.class);
+        for (int t = 0; t < shape.tutors(); t++) {
+            TutorRegistration registration = new TutorRegistration(tutorId(t), "experience", "qualifications", "bio");
+            registration.setStatus(TutorRegistrationStatus.ACCEPTED);
+            registrations.save(registration);
+        }
+
+        CourseRepository courseRepository = server.getBean(CourseRepository.class);
+        Random random = new Random(42);
+        List<Long> courseIds = new ArrayList<>(shape.courses());
+        List<Course> batch = new ArrayList<>(BATCH_SIZE);
+        for (int c = 0; c < shape.courses(); c++) {
+            batch.add(course(c, shape, random));
+            if (batch.size() == BATCH_SIZE) {
+                courseRepository.saveAll(batch).forEach(course -> courseIds.add(course.getId()));
+                batch.clear();
+            }
+        }
+        courseRepository.saveAll(batch).forEach(course -> courseIds.add(course.getId()));
+        return new Dataset(shape, courseIds);
+    }
+
+    private static Course course(int index, Shape shape, Random random) {
+        String keyword = KEYWORDS.get(random.nextInt(KEYWORDS.size()));
+        Course course = Course.builder()
+                .title(capitalize(keyword) + " Course " + index)
+                .category(capitalize(KEYWORDS.get(random.nextInt(KEYWORDS.size()))))
+                .description("Generated course " + index + " about " + keyword)
+                .tutorId(tutorId(index % shape.tutors()))
+                .price(BigDecimal.valueOf(random.nextInt(100_000), 2))
+                .build();
+        for (int s = 0; s < shape.sectionsPerCourse(); s++) {
+            Section section = new Section();
+            section.setTitle("Section " + s);
+            for (int a = 0; a < shape.articlesPerSection(); a++) {
+                Article article = new Article();
+                article.setTitle("Article " + s + "." + a);
+                article.setContent("Generated content for article " + a + " of section " + s + ". ".repeat(20));
+                section.addArticle(article);
+            }
+            course.addSection(section);
+        }
+        return course;
+    }
+
+    private static String tutorId(int index) {
+        return index == 0 ? CURRENT_TUTOR_ID : "tutor-" + index;
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,171 @@
+package id.ac.ui.cs.advprog.udehnihcourse.loadtest;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load: a fixed number of virtual-thread clients, each sending its next request
+ * as soon as the previous one answers, picking endpoints by weight.
+ */
+public final class LoadDriver {
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\" type=\"hidden\" value=\"([^\"]+)\"");
+
+    /**
+     * One kind of request in the workload mix. The path function gets the worker's random source.
+     */
+    public record Endpoint(String name, int weight, Function<ThreadLocalRandom, String> path) {
+    }
+
+    /**
+     * Latencies of the successful requests to one endpoint, sorted, in microseconds.
+     */
+    public record EndpointStats(String name, long[] latenciesMicros, long errors, double seconds) {
+
+        public long requests() {
+            return latenciesMicros.length;
+        }
+
+        public double throughput() {
+            return latenciesMicros.length / seconds;
+        }
+
+        public double percentileMillis(double quantile) {
+            if (latenciesMicros.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(latenciesMicros.length - 1, Math.round(quantile * (latenciesMicros.length - 1)));
+            return latenciesMicros[index] / 1000.0;
+        }
+    }
+
+    private LoadDriver() {
+    }
+
+    public static Map<String, EndpointStats> run(String baseUrl, List<Endpoint> endpoints, int concurrency, Duration duration)
+            throws Exception {
+        int totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        List<Samples[]> perWorker = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .executor(clients)
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .cookieHandler(new CookieManager())
+                     .build()) {
+            logIn(http, baseUrl);
+            List<Future<Samples[]>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(clients.submit(() -> work(http, baseUrl, endpoints, totalWeight, deadline)));
+            }
+            for (Future<Samples[]> worker : workers) {
+                perWorker.add(worker.get());
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        for (int e = 0; e < endpoints.size(); e++) {
+            int endpoint = e;
+            long[] latencies = perWorker.stream()
+                    .flatMapToLong(samples -> Arrays.stream(samples[endpoint].latencies, 0, samples[endpoint].count))
+                    .sorted()
+                    .toArray();
+            long errors = perWorker.stream().mapToLong(samples -> samples[endpoint].errors).sum();
+            stats.put(endpoints.get(e).name(), new EndpointStats(endpoints.get(e).name(), latencies, errors, seconds));
+        }
+        return stats;
+    }
+
+    private static Samples[] work(HttpClient http, String baseUrl, List<Endpoint> endpoints, int totalWeight, long deadline)
+            throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Samples[] samples = new Samples[endpoints.size()];
+        Arrays.setAll(samples, i -> new Samples());
+        while (System.nanoTime() < deadline) {
+            int endpoint = pick(endpoints, totalWeight, random);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + endpoints.get(endpoint).path().apply(random)))
+                    .GET()
+                    .build();
+            long sent = System.nanoTime();
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 200) {
+                samples[endpoint].add((System.nanoTime() - sent) / 1_000);
+            } else {
+                samples[endpoint].errors++;
+            }
+        }
+        return samples;
+    }
+
+    private static int pick(List<Endpoint> endpoints, int totalWeight, ThreadLocalRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (int i = 0; i < endpoints.size(); i++) {
+            roll -= endpoints.get(i).weight();
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return endpoints.size() - 1;
+    }
+
+    /**
+     * Logs in once through the form login so every request rides on the session cookie.
+     * Sending HTTP Basic credentials instead would re-verify the password on each request
+     * and measure the password encoder rather than the endpoints.
+     */
+    private static void logIn(HttpClient http, String baseUrl) throws Exception {
+        String loginPage = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher csrf = CSRF_TOKEN.matcher(loginPage);
+        if (!csrf.find()) {
+            throw new IllegalStateException("Login page has no CSRF token");
+        }
+
+        String user = LoadTestServer.USER;
+        String form = "username=" + user + "&password=" + user + "&_csrf="
+                + URLEncoder.encode(csrf.group(1), StandardCharsets.UTF_8);
+        HttpResponse<Void> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("Login failed: " + response.statusCode() + " " + location);
+        }
+    }
+
+    // Owned by a single worker, so no synchronization.
+    private static final class Samples {
+        private long[] latencies = new long[256];
+        private int count;
+        private long errors;
+
+        void add(long micros) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = Math.max(1, micros);
+        }
+    }
+}
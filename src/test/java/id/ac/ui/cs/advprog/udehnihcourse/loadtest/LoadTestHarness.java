@@ -0,0 +1,74 @@
+package id.ac.ui.cs.advprog.udehnihcourse.loadtest;
+
+import id.ac.ui.cs.advprog.udehnihcourse.loadtest.DatasetGenerator.Dataset;
+import id.ac.ui.cs.advprog.udehnihcourse.loadtest.LoadDriver.Endpoint;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Boots the application on H2, generates a catalog and drives a mixed browse workload against it.
+ * Started by ./gradlew loadHarness; every knob is a -Dloadtest.* system property:
+ * tutors, courses, sections, articles (dataset shape), concurrency, seconds, warmup-seconds,
+ * virtual-threads (server execution mode), weights (list,search,detail,tutor) and label (report file name).
+ */
+public final class LoadTestHarness {
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path outputDirectory = Path.of(args.length > 0 ? args[0] : "build/reports/loadtest");
+        DatasetGenerator.Shape shape = new DatasetGenerator.Shape(
+                Integer.getInteger("loadtest.tutors", 50),
+                Integer.getInteger("loadtest.courses", 2_000),
+                Integer.getInteger("loadtest.sections", 5),
+                Integer.getInteger("loadtest.articles", 5));
+        int concurrency = Integer.getInteger("loadtest.concurrency", 200);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.seconds", 30));
+        boolean virtualThreads = Boolean.getBoolean("loadtest.virtual-threads");
+        String label = System.getProperty("loadtest.label", "local");
+        int[] weights = parseWeights(System.getProperty("loadtest.weights", "35,25,30,10"));
+
+        try (LoadTestServer server = LoadTestServer.start("loadharness", virtualThreads)) {
+            Dataset dataset = DatasetGenerator.generate(server, shape);
+            List<Endpoint> endpoints = workload(dataset, weights);
+
+            LoadDriver.run(server.baseUrl(), endpoints, concurrency, warmup);
+            Instant startedAt = Instant.now();
+            LoadTestReport report = LoadTestReport.of(label, startedAt, virtualThreads, concurrency, duration.toSeconds(),
+                    shape, LoadDriver.run(server.baseUrl(), endpoints, concurrency, duration));
+
+            report.write(outputDirectory);
+            System.out.print(report.toText());
+            System.out.println("Report written to " + outputDirectory.toAbsolutePath());
+        }
+    }
+
+    private static List<Endpoint> workload(Dataset dataset, int[] weights) {
+        List<Long> courseIds = dataset.courseIds();
+        List<String> keywords = DatasetGenerator.KEYWORDS;
+        return List.of(
+                new Endpoint("list", weights[0], random -> "/api/courses?size=20"),
+                new Endpoint("search", weights[1],
+                        random -> "/api/courses/search?keyword=" + keywords.get(random.nextInt(keywords.size())) + "&size=20"),
+                new Endpoint("detail", weights[2],
+                        random -> "/api/courses/" + courseIds.get(random.nextInt(courseIds.size()))),
+                new Endpoint("tutor", weights[3], random -> "/api/tutors/courses"));
+    }
+
+    private static int[] parseWeights(String weights) {
+        String[] parts = weights.split(",");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("loadtest.weights needs four values: list,search,detail,tutor");
+        }
+        int[] parsed = new int[4];
+        for (int i = 0; i < 4; i++) {
+            parsed[i] = Integer.parseInt(parts[i].trim());
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,118 @@
+package id.ac.ui.cs.advprog.udehnihcourse.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import id.ac.ui.cs.advprog.udehnihcourse.loadtest.LoadDriver.EndpointStats;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Result of one harness run, written as JSON (for diffing between commits) and as a small HTML page.
+ */
+public record LoadTestReport(
+        String label,
+        Instant startedAt,
+        boolean virtualThreads,
+        int concurrency,
+        long durationSeconds,
+        DatasetGenerator.Shape dataset,
+        EndpointReport total,
+        List<EndpointReport> endpoints) {
+
+    public record EndpointReport(String name, long requests, long errors, double throughput,
+                                 double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+
+        static EndpointReport of(EndpointStats stats) {
+            return new EndpointReport(stats.name(), stats.requests(), stats.errors(), stats.throughput(),
+                    stats.percentileMillis(0.50), stats.percentileMillis(0.95), stats.percentileMillis(0.99),
+                    stats.percentileMillis(1.0));
+        }
+    }
+
+    public static LoadTestReport of(String label, Instant startedAt, boolean virtualThreads, int concurrency,
+                                    long durationSeconds, DatasetGenerator.Shape dataset,
+                                    Map<String, EndpointStats> stats) {
+        List<EndpointReport> endpoints = new ArrayList<>();
+        stats.values().forEach(endpoint -> endpoints.add(EndpointReport.of(endpoint)));
+
+        long[] all = stats.values().stream()
+                .flatMapToLong(endpoint -> Arrays.stream(endpoint.latenciesMicros()))
+                .sorted()
+                .toArray();
+        long errors = stats.values().stream().mapToLong(EndpointStats::errors).sum();
+        double seconds = stats.values().stream().mapToDouble(EndpointStats::seconds).max().orElse(1);
+        EndpointReport total = EndpointReport.of(new EndpointStats("total", all, errors, seconds));
+
+        return new LoadTestReport(label, startedAt, virtualThreads, concurrency, durationSeconds, dataset, total, endpoints);
+    }
+
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(directory.resolve("loadtest-" + label + ".json").toFile(), this);
+        Files.writeString(directory.resolve("loadtest-" + label + ".html"), toHtml(), StandardCharsets.UTF_8);
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT, "%-10s %9s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (EndpointReport row : rows()) {
+            text.append(String.format(Locale.ROOT, "%-10s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.name(), row.requests(), row.errors(), row.throughput(),
+                    row.p50Millis(), row.p95Millis(), row.p99Millis(), row.maxMillis()));
+        }
+        return text.toString();
+    }
+
+    private String toHtml() {
+        StringBuilder rows = new StringBuilder();
+        for (EndpointReport row : rows()) {
+            rows.append(String.format(Locale.ROOT,
+                    "<tr><td>%s</td><td>%d</td><td>%d</td><td>%.1f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td></tr>%n",
+                    row.name(), row.requests(), row.errors(), row.throughput(),
+                    row.p50Millis(), row.p95Millis(), row.p99Millis(), row.maxMillis()));
+        }
+        return """
+                <!DOCTYPE html>
+                <html>
+                <head>
+                <meta charset="utf-8">
+                <title>Load test %1$s</title>
+                <style>
+                body { font-family: sans-serif; margin: 2em; }
+                table { border-collapse: collapse; }
+                th, td { border: 1px solid #ccc; padding: 4px 10px; text-align: right; }
+                th:first-child, td:first-child { text-align: left; }
+                </style>
+                </head>
+                <body>
+                <h1>Load test %1$s</h1>
+                <p>Started %2$s &middot; %3$s threads &middot; %4$d clients for %5$ds &middot;
+                %6$d tutors, %7$d courses, %8$d sections/course, %9$d articles/section</p>
+                <table>
+                <tr><th>Endpoint</th><th>Requests</th><th>Errors</th><th>req/s</th><th>p50 ms</th><th>p95 ms</th><th>p99 ms</th><th>max ms</th></tr>
+                %10$s</table>
+                </body>
+                </html>
+                """.formatted(label, startedAt, virtualThreads ? "virtual" : "platform", concurrency, durationSeconds,
+                dataset.tutors(), dataset.courses(), dataset.sectionsPerCourse(), dataset.articlesPerSection(), rows);
+    }
+
+    private List<EndpointReport> rows() {
+        List<EndpointReport> rows = new ArrayList<>(endpoints);
+        rows.add(total);
+        return rows;
+    }
+}
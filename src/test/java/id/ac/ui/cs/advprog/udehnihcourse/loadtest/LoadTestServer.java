@@ -0,0 +1,47 @@
+package id.ac.ui.cs.advprog.udehnihcourse.loadtest;
+
+import id.ac.ui.cs.advprog.udehnihcourse.UdehnihCourseApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * UdehnihCourseApplication booted on a random port against its own in-memory H2 database.
+ */
+public final class LoadTestServer implements AutoCloseable {
+
+    public static final String USER = "loadtest";
+
+    private final ConfigurableApplicationContext context;
+    private final int port;
+
+    private LoadTestServer(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.port = ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    public static LoadTestServer start(String databaseName, boolean virtualThreads) {
+        return new LoadTestServer(new SpringApplicationBuilder(UdehnihCourseApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "spring.security.user.name=" + USER,
+                        "spring.security.user.password=" + USER,
+                        "logging.level.root=WARN")
+                .run());
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,114 @@
+package id.ac.ui.cs.advprog.udehnihcourse.metrics;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistration;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorRegistrationRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.service.TutorRegistrationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@Import({MetricsConfig.class, LayerTimingAspectTest.Registry.class})
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+public class LayerTimingAspectTest {
+
+    @TestConfiguration
+    static class Registry {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    private TutorRegistrationRepository tutorRegistrationRepository;
+    private TutorRegistrationService tutorRegistrationService;
+
+    @BeforeEach
+    void setUp() {
+        // The registry lives in the cached test context; start every test from zero.
+        meterRegistry.clear();
+        tutorRegistrationRepository = mock(TutorRegistrationRepository.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new TutorRegistrationService(tutorRegistrationRepository,
+                mock(ApplicationEventPublisher.class)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new LayerTimingAspect(meterRegistry));
+        tutorRegistrationService = factory.getProxy();
+    }
+
+    @Test
+    void serviceCall_isTimedWithSuccessOutcome() {
+        when(tutorRegistrationRepository.findByStudentId("student-1"))
+                .thenReturn(Optional.of(new TutorRegistration("student-1", "e", "q", "b")));
+
+        tutorRegistrationService.checkApplicationStatus("student-1");
+
+        Timer timer = meterRegistry.find(LayerTimingAspect.SERVICE_TIMER)
+                .tags("class", "TutorRegistrationService", "method", "checkApplicationStatus", "outcome", "success")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void failingServiceCall_isTimedWithErrorOutcome() {
+        when(tutorRegistrationRepository.findByStudentId("student-1")).thenReturn(Optional.empty());
+
+        assertThrows(ResponseStatusException.class, () -> tutorRegistrationService.checkApplicationStatus("student-1"));
+
+        Timer timer = meterRegistry.find(LayerTimingAspect.SERVICE_TIMER)
+                .tags("method", "checkApplicationStatus", "outcome", "error", "exception", "ResponseStatusException")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void repositoryCall_isTimedUnderRepositoryInterfaceName() {
+        courseRepository.findAllSummaries();
+        courseRepository.count();
+
+        assertEquals(1, meterRegistry.find(LayerTimingAspect.REPOSITORY_TIMER)
+                .tags("class", "CourseRepository", "method", "findAllSummaries", "outcome", "success")
+                .timer().count());
+        assertNotNull(meterRegistry.find(LayerTimingAspect.REPOSITORY_TIMER)
+                .tags("class", "CourseRepository", "method", "count")
+                .timer());
+    }
+
+    @Test
+    void statementInspector_countsStatementsOnCurrentThread() {
+        sqlStatementCounter.begin();
+        courseRepository.findAllSummaries();
+        courseRepository.findVersionById(1L);
+
+        assertEquals(2, sqlStatementCounter.end());
+        assertEquals(0, sqlStatementCounter.end());
+    }
+}
@@ -0,0 +1,43 @@
+package id.ac.ui.cs.advprog.udehnihcourse.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SqlStatementCountFilterTest {
+
+    @Test
+    void doFilter_recordsStatementsPerUriTemplate() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlStatementCounter counter = new SqlStatementCounter();
+        SqlStatementCountFilter filter = new SqlStatementCountFilter(counter, meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses/7");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/courses/{courseId}");
+            counter.inspect("select 1");
+            counter.inspect("select 2");
+            counter.inspect("select 3");
+        });
+
+        DistributionSummary summary = meterRegistry.find(SqlStatementCountFilter.SUMMARY)
+                .tags("method", "GET", "uri", "/api/courses/{courseId}")
+                .summary();
+        assertNotNull(summary);
+        assertEquals(1, summary.count());
+        assertEquals(3, summary.totalAmount());
+    }
+
+    @Test
+    void inspect_outsideRequest_isNotCounted() {
+        SqlStatementCounter counter = new SqlStatementCounter();
+
+        assertEquals("select 1", counter.inspect("select 1"));
+        assertEquals(0, counter.end());
+    }
+}
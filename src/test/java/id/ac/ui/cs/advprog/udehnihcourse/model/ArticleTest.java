@@ -149,4 +149,28 @@ public class ArticleTest {
         assertEquals(article1, article4);
         assertEquals(article1.hashCode(), article4.hashCode());
     }
+
+    @Test
+    void testCompressContent_keepsContentReadable() {
+        String body = "Repeated body text. ".repeat(100);
+        article.setContent(body);
+
+        article.compressContent();
+
+        assertTrue(article.isCompressed());
+        assertEquals(ArticleContentCodec.GZIP, article.getContentCodec());
+        assertTrue(article.getCompressedContent().length < body.length());
+        assertEquals(body, article.getContent());
+    }
+
+    @Test
+    void testSetContent_afterCompression_storesPlainAgain() {
+        article.compressContent();
+
+        article.setContent("Edited");
+
+        assertFalse(article.isCompressed());
+        assertNull(article.getCompressedContent());
+        assertEquals("Edited", article.getContent());
+    }
 }
@@ -94,6 +94,16 @@ public class CourseTest {
         assertNull(section.getCourse());
     }
 
+    @Test
+    void testSectionChangesBumpContentVersion() {
+        assertEquals(0L, course.getContentVersion());
+
+        course.addSection(section);
+        course.removeSection(section);
+
+        assertEquals(2L, course.getContentVersion());
+    }
+
     @Test
     void testDefaultPriceIsZero() {
         Course freeCourse = Course.builder()
@@ -104,12 +114,4 @@ public class CourseTest {
 
         assertEquals(0, BigDecimal.ZERO.compareTo(freeCourse.getPrice()));
     }
-
-    @Test
-    void testDefaultEnrollmentCountIsZero() {
-        assertEquals(0, course.getEnrollmentCount());
-        course.setEnrollmentCount(10);
-        assertEquals(10, course.getEnrollmentCount());
-    }
-
 }
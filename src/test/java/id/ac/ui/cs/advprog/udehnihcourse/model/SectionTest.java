@@ -73,6 +73,34 @@ public class SectionTest {
         assertNull(article.getSection());
     }
 
+    @Test
+    void testArticleChangesBumpCourseContentVersion() {
+        long before = course.getContentVersion();
+
+        section.addArticle(article);
+        article.touchCourseContent();
+        section.removeArticle(article);
+
+        assertEquals(before + 3, course.getContentVersion());
+    }
+
+    @Test
+    void testEditsBumpCourseContentVersionOnlyWhenValueChanges() {
+        section.addArticle(article);
+        long before = course.getContentVersion();
+
+        article.setTitle(article.getTitle());
+        article.setContent(article.getContent());
+        article.compressContent();
+        assertEquals(before, course.getContentVersion());
+
+        article.setTitle("New title");
+        article.setContentType("HTML");
+        article.setContent("New content");
+        section.setTitle("New section");
+        assertEquals(before + 4, course.getContentVersion());
+    }
+
     @Test
     void testToStringDoesNotCauseStackOverflow() {
         section.addArticle(article);
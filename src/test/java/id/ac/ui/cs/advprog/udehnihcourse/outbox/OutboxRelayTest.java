@@ -0,0 +1,120 @@
+package id.ac.ui.cs.advprog.udehnihcourse.outbox;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.OutboxEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The relay commits one transaction per batch, so the test must not wrap everything in one.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class OutboxRelayTest {
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private final List<OutboxMessage> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void relay_deliversEveryEventInOrderAndRemovesIt() {
+        save(5);
+        OutboxRelay relay = relay(List.of(received::add), 2, START.plusSeconds(30));
+
+        relay.relay();
+
+        assertEquals(5, received.size());
+        for (int i = 1; i < received.size(); i++) {
+            assertTrue(received.get(i - 1).id() < received.get(i).id());
+        }
+        assertEquals(1, received.get(0).attempt());
+        assertEquals(0, outboxEventRepository.count());
+        assertEquals(5, meterRegistry.get(OutboxRelay.DELIVERED_COUNTER).counter().count());
+        assertEquals(0, meterRegistry.get(OutboxRelay.LAG_GAUGE).gauge().value());
+    }
+
+    @Test
+    void relay_whenSinkFails_keepsEventAndRetriesAfterBackoff() {
+        save(2);
+        Long failingId = outboxEventRepository.findAll().get(0).getId();
+        OutboxSink flakySink = message -> {
+            if (message.id().equals(failingId) && message.attempt() == 1) {
+                throw new IllegalStateException("broker unavailable");
+            }
+            received.add(message);
+        };
+
+        relay(List.of(flakySink), 10, START.plusSeconds(30)).relay();
+
+        assertEquals(1, received.size());
+        OutboxEvent kept = outboxEventRepository.findById(failingId).orElseThrow();
+        assertEquals(1, kept.getAttempts());
+        assertTrue(kept.getLastError().contains("broker unavailable"));
+        assertEquals(1, meterRegistry.get(OutboxRelay.FAILURES_COUNTER).counter().count());
+        assertEquals(30, meterRegistry.get(OutboxRelay.LAG_GAUGE).gauge().value());
+
+        // Not due yet: the retry waits for the backoff.
+        relay(List.of(flakySink), 10, START.plusSeconds(35)).relay();
+        assertEquals(1, received.size());
+
+        relay(List.of(flakySink), 10, START.plusSeconds(45)).relay();
+        assertEquals(2, received.size());
+        assertEquals(failingId, received.get(1).id());
+        assertEquals(2, received.get(1).attempt());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void relay_whenNoSinks_leavesEventsInOutbox() {
+        save(1);
+
+        relay(List.of(), 10, START.plusSeconds(30)).relay();
+
+        assertEquals(1, outboxEventRepository.count());
+        assertEquals(30, meterRegistry.get(OutboxRelay.LAG_GAUGE).gauge().value());
+    }
+
+    private OutboxRelay relay(List<OutboxSink> sinks, int batchSize, Instant now) {
+        meterRegistry.clear();
+        return new OutboxRelay(outboxEventRepository, sinks, transactionManager, meterRegistry,
+                batchSize, Duration.ofSeconds(10), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private void save(int count) {
+        LocalDateTime createdAt = LocalDateTime.ofInstant(START, ZoneOffset.UTC);
+        for (int i = 0; i < count; i++) {
+            outboxEventRepository.save(new OutboxEvent("course", String.valueOf(i), "course.created", "{}", createdAt));
+        }
+    }
+}
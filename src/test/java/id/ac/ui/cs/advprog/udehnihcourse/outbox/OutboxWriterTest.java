@@ -0,0 +1,93 @@
+package id.ac.ui.cs.advprog.udehnihcourse.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.ac.ui.cs.advprog.udehnihcourse.event.CourseChangedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.event.TutorRegistrationProcessedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.event.TutorRegistrationsProcessedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.model.OutboxEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The outbox row is written on commit, so each case runs its own transaction.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OutboxWriter.class, OutboxWriterTest.JacksonConfig.class})
+public class OutboxWriterTest {
+
+    @TestConfiguration
+    static class JacksonConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void whenTransactionCommits_thenOneRowPerChangeIsWritten() {
+        transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(CourseChangedEvent.updated(7L, "Java", "Programming"));
+            eventPublisher.publishEvent(new TutorRegistrationsProcessedEvent(List.of(
+                    new TutorRegistrationProcessedEvent(1L, "student-1", TutorRegistrationStatus.ACCEPTED),
+                    new TutorRegistrationProcessedEvent(2L, "student-2", TutorRegistrationStatus.DENIED))));
+        });
+
+        List<OutboxEvent> events = outboxEventRepository.findAll(Sort.by("id"));
+        assertEquals(3, events.size());
+        assertEquals("course.updated", events.get(0).getEventType());
+        assertEquals("7", events.get(0).getAggregateId());
+        assertTrue(events.get(0).getPayload().contains("\"title\":\"Java\""));
+        assertEquals(OutboxWriter.TUTOR_REGISTRATION_PROCESSED, events.get(2).getEventType());
+        assertEquals("2", events.get(2).getAggregateId());
+        assertTrue(events.get(2).getPayload().contains("\"status\":\"DENIED\""));
+        assertEquals(0, events.get(2).getAttempts());
+    }
+
+    @Test
+    void whenTransactionRollsBack_thenNothingIsWritten() {
+        transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(CourseChangedEvent.deleted(7L));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, outboxEventRepository.count());
+    }
+}
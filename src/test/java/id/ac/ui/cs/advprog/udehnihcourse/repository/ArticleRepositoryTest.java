@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -75,4 +76,33 @@ public class ArticleRepositoryTest {
         Section foundSection = entityManager.find(Section.class, section.getId());
         assertNotNull(foundSection);
     }
+
+    @Test
+    void whenFindOutlinesByCourseId_thenReturnArticlesWithoutContent() {
+        Article article2 = new Article();
+        article2.setTitle("Article 2");
+        article2.setContent("Content 2");
+        article2.setContentType("VIDEO");
+        article2.setSection(section);
+        entityManager.persist(article1);
+        entityManager.persist(article2);
+        entityManager.flush();
+
+        List<ArticleOutline> outlines = articleRepository.findOutlinesByCourseId(course.getId());
+
+        assertEquals(2, outlines.size());
+        assertEquals(new ArticleOutline(article1.getId(), "Article 1", "TEXT", section.getId()), outlines.get(0));
+        assertEquals(new ArticleOutline(article2.getId(), "Article 2", "VIDEO", section.getId()), outlines.get(1));
+    }
+
+    @Test
+    void whenFindByIdAndSectionCourseId_withOtherCourse_thenReturnEmpty() {
+        entityManager.persist(article1);
+        Course otherCourse = Course.builder().title("Other").tutorId("tutor-art").build();
+        entityManager.persist(otherCourse);
+        entityManager.flush();
+
+        assertTrue(articleRepository.findByIdAndSectionCourseId(article1.getId(), course.getId()).isPresent());
+        assertFalse(articleRepository.findByIdAndSectionCourseId(article1.getId(), otherCourse.getId()).isPresent());
+    }
 }
@@ -0,0 +1,83 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class CourseInsertBatchingTest {
+    private static final int SECTIONS = 10;
+    private static final int ARTICLES_PER_SECTION = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void persist_twoHundredArticleCourse_batchesInsertsAndSequenceCalls() {
+        long unbatched = statementsToPersist(1);
+        long batched = statementsToPersist(50);
+
+        // 211 rows: one INSERT each without batching, plus a sequence call per 50 ids.
+        assertTrue(unbatched >= 211, "unbatched statements: " + unbatched);
+        assertTrue(batched <= 20, "batched statements: " + batched);
+    }
+
+    @Test
+    void persist_assignsDistinctIdsWithinPooledBlocks() {
+        Course first = entityManager.persistAndFlush(course());
+        Course second = entityManager.persistAndFlush(course());
+
+        assertNotEquals(first.getId(), second.getId());
+        long articleIds = first.getSections().stream()
+                .flatMap(section -> section.getArticles().stream())
+                .map(Article::getId)
+                .distinct()
+                .count();
+        assertEquals(SECTIONS * ARTICLES_PER_SECTION, articleIds);
+    }
+
+    private long statementsToPersist(int batchSize) {
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        statistics.clear();
+
+        entityManager.persist(course());
+        entityManager.flush();
+        entityManager.clear();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static Course course() {
+        Course course = Course.builder().title("Big Course").tutorId("tutor-1").build();
+        for (int s = 0; s < SECTIONS; s++) {
+            Section section = new Section();
+            section.setTitle("Section " + s);
+            for (int a = 0; a < ARTICLES_PER_SECTION; a++) {
+                Article article = new Article();
+                article.setTitle("Article " + s + "." + a);
+                article.setContent("Body");
+                section.addArticle(article);
+            }
+            course.addSection(section);
+        }
+        return course;
+    }
+}
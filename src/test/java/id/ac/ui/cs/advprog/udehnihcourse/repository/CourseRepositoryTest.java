@@ -2,14 +2,17 @@ package id.ac.ui.cs.advprog.udehnihcourse.repository;
 
 import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
 import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.CourseEnrollmentCount;
 import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -50,7 +53,8 @@ public class CourseRepositoryTest {
 
     @Test
     void whenSaveCourse_thenFindById_returnsCourse() {
-        Course savedCourse = courseRepository.save(course1);
+        // Sequence ids defer the INSERT, and with it the creation timestamp, to flush time.
+        Course savedCourse = courseRepository.saveAndFlush(course1);
 
         Optional<Course> foundCourseOpt = courseRepository.findById(savedCourse.getId());
 
@@ -172,7 +176,7 @@ public class CourseRepositoryTest {
     }
 
     @Test
-    void whenFindByIdWithEntityGraph_thenFetchSectionsAndArticles() {
+    void whenFindWithSectionsById_thenFetchSectionsAndArticles() {
         Article article1 = new Article();
         article1.setTitle("Article 1");
         article1.setContent("Content of Article 1");
@@ -197,7 +201,7 @@ public class CourseRepositoryTest {
         entityManager.flush();
     
         // Fetch Course
-        Optional<Course> foundCourseOpt = courseRepository.findById(course.getId());
+        Optional<Course> foundCourseOpt = courseRepository.findWithSectionsById(course.getId());
     
         assertTrue(foundCourseOpt.isPresent());
         Course foundCourse = foundCourseOpt.get();
@@ -217,4 +221,129 @@ public class CourseRepositoryTest {
         assertEquals("Content of Article 1", articles.get(0).getContent());
     }
 
+    @Test
+    void whenPagingByKeyset_thenEveryCourseIsReturnedOnceInOrder() {
+        LocalDateTime sameInstant = LocalDateTime.of(2025, 1, 1, 10, 0);
+        for (int i = 0; i < 5; i++) {
+            Course course = Course.builder()
+                    .title("Course " + i)
+                    .tutorId(tutor1Id)
+                    .build();
+            entityManager.persist(course);
+        }
+        entityManager.flush();
+        // Force identical timestamps so the id tie-breaker is exercised.
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Course c SET c.createdAt = :createdAt")
+                .setParameter("createdAt", sameInstant)
+                .executeUpdate();
+        entityManager.clear();
+
+        List<CourseSummary> firstPage = courseRepository.findFirstPage(Limit.of(2));
+        CourseSummary lastOfFirst = firstPage.get(1);
+        List<CourseSummary> secondPage = courseRepository.findPageAfter(lastOfFirst.createdAt(), lastOfFirst.id(), Limit.of(2));
+        CourseSummary lastOfSecond = secondPage.get(1);
+        List<CourseSummary> thirdPage = courseRepository.findPageAfter(lastOfSecond.createdAt(), lastOfSecond.id(), Limit.of(2));
+
+        assertEquals(2, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertEquals(1, thirdPage.size());
+        assertTrue(firstPage.get(0).id() < firstPage.get(1).id());
+        assertTrue(lastOfFirst.id() < secondPage.get(0).id());
+        assertTrue(lastOfSecond.id() < thirdPage.get(0).id());
+    }
+
+    @Test
+    void whenFindSummariesByTutorId_thenReturnOnlyListedColumns() {
+        course1.setCategory("Programming");
+        entityManager.persist(course1);
+        entityManager.persist(course2);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TutorCourseSummary> summaries = courseRepository.findSummariesByTutorId(tutor1Id);
+
+        assertEquals(2, summaries.size());
+        TutorCourseSummary summaryA = summaries.stream()
+                .filter(s -> s.title().equals("Course A"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("Programming", summaryA.category());
+        assertEquals(0, new BigDecimal("100.00").compareTo(summaryA.price()));
+        assertNotNull(summaryA.createdAt());
+        assertFalse(entityManager.getEntityManager().contains(course1));
+    }
+
+    @Test
+    void whenFindAllSummaries_andSearchSummaries_thenMatchEntityQueries() {
+        entityManager.persist(course1);
+        entityManager.persist(course2);
+        entityManager.flush();
+
+        assertEquals(2, courseRepository.findAllSummaries().size());
+        List<CourseSummary> found = courseRepository.findSummariesByTitleContainingIgnoreCase("course b");
+        assertEquals(1, found.size());
+        assertEquals("Course B", found.get(0).title());
+    }
+
+    @Test
+    void whenFindVersionById_thenReturnValidatorFieldsOnly() {
+        Course saved = entityManager.persistFlushFind(course1);
+        entityManager.clear();
+
+        CourseVersion version = courseRepository.findVersionById(saved.getId()).orElseThrow();
+
+        assertEquals(saved.getId(), version.id());
+        assertNotNull(version.updatedAt());
+        assertEquals(0L, version.contentVersion());
+        assertTrue(courseRepository.findVersionById(-1L).isEmpty());
+    }
+
+    @Test
+    void whenCourseHasCountRow_thenSummariesIncludeIt() {
+        entityManager.persist(course1);
+        entityManager.persist(course2);
+        entityManager.persist(new CourseEnrollmentCount(course1.getId(), 7L));
+        entityManager.flush();
+
+        List<CourseSummary> summaries = courseRepository.findSummariesByIdIn(List.of(course1.getId(), course2.getId()));
+
+        assertEquals(7L, summaries.stream().filter(s -> s.id().equals(course1.getId())).findFirst().orElseThrow().enrollmentCount());
+        assertEquals(0L, summaries.stream().filter(s -> s.id().equals(course2.getId())).findFirst().orElseThrow().enrollmentCount());
+    }
+
+    @Test
+    void whenArticleOrSectionEdited_thenCourseVersionChanges() {
+        Section section = new Section();
+        section.setTitle("Section");
+        Article article = new Article();
+        article.setTitle("Article");
+        article.setContent("Body");
+        section.addArticle(article);
+        course1.addSection(section);
+        entityManager.persist(course1);
+        entityManager.flush();
+        entityManager.clear();
+        CourseVersion before = courseRepository.findVersionById(course1.getId()).orElseThrow();
+
+        entityManager.find(Article.class, article.getId()).setContent("Edited body");
+        entityManager.flush();
+        entityManager.clear();
+        CourseVersion afterArticleEdit = courseRepository.findVersionById(course1.getId()).orElseThrow();
+
+        Course loaded = entityManager.find(Course.class, course1.getId());
+        loaded.getSections().get(0).getArticles().get(0).setTitle("Edited title");
+        entityManager.flush();
+        entityManager.clear();
+        CourseVersion afterTitleEdit = courseRepository.findVersionById(course1.getId()).orElseThrow();
+
+        entityManager.find(Section.class, section.getId()).setTitle("Edited section");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(before.contentVersion() + 1, afterArticleEdit.contentVersion());
+        assertEquals(before.contentVersion() + 2, afterTitleEdit.contentVersion());
+        assertEquals(before.contentVersion() + 3,
+                courseRepository.findVersionById(course1.getId()).orElseThrow().contentVersion());
+    }
 }
@@ -0,0 +1,93 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(CourseTreeLoader.class)
+public class CourseTreeLoaderTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CourseTreeLoader courseTreeLoader;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void load_fetchesWholeTreeInTwoQueriesInIdOrder() {
+        Course course = Course.builder().title("Big Course").tutorId("tutor-1").build();
+        for (int s = 0; s < 3; s++) {
+            Section section = new Section();
+            section.setTitle("Section " + s);
+            for (int a = 0; a < 4; a++) {
+                Article article = new Article();
+                article.setTitle("Article " + s + "." + a);
+                article.setContent("Body");
+                section.addArticle(article);
+            }
+            course.addSection(section);
+        }
+        entityManager.persist(course);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Course loaded = courseTreeLoader.load(course.getId()).orElseThrow();
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        List<Section> sections = loaded.getSections();
+        assertEquals(3, sections.size());
+        for (int s = 0; s < sections.size(); s++) {
+            Section section = sections.get(s);
+            assertEquals("Section " + s, section.getTitle());
+            assertTrue(Hibernate.isInitialized(section.getArticles()));
+            assertEquals(4, section.getArticles().size());
+            assertEquals("Article " + s + ".0", section.getArticles().get(0).getTitle());
+            assertEquals("Article " + s + ".3", section.getArticles().get(3).getTitle());
+        }
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void load_whenCourseHasNoSections_runsOneQuery() {
+        Course course = Course.builder().title("Empty Course").tutorId("tutor-1").build();
+        entityManager.persist(course);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Course loaded = courseTreeLoader.load(course.getId()).orElseThrow();
+
+        assertTrue(loaded.getSections().isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void load_whenCourseMissing_returnsEmpty() {
+        Optional<Course> loaded = courseTreeLoader.load(-1L);
+
+        assertTrue(loaded.isEmpty());
+    }
+}
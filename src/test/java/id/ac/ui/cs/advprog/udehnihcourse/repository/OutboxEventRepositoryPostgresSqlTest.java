@@ -0,0 +1,55 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Renders the claim query with Hibernate's PostgreSQLDialect against H2 in PostgreSQL mode, no server needed.
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-postgres;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "id.ac.ui.cs.advprog.udehnihcourse.repository.OutboxEventRepositoryPostgresSqlTest$RecordingInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class OutboxEventRepositoryPostgresSqlTest {
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    void setUp() {
+        RecordingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void claimDue_rendersSkipLockedOnPostgres() {
+        // H2 cannot run PostgreSQL's row-lock clause; the statement only has to reach the inspector.
+        assertThrows(DataAccessException.class, () -> outboxEventRepository.claimDue(LocalDateTime.now(), Limit.of(10)));
+
+        String claim = RecordingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.contains("outbox_events"))
+                .findFirst().orElseThrow();
+        assertTrue(claim.endsWith("for no key update skip locked"), claim);
+    }
+
+    public static class RecordingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
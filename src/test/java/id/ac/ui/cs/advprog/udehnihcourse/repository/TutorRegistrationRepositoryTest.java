@@ -0,0 +1,96 @@
+package id.ac.ui.cs.advprog.udehnihcourse.repository;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistration;
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class TutorRegistrationRepositoryTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TutorRegistrationRepository tutorRegistrationRepository;
+
+    private final List<Long> pendingIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            pendingIds.add(entityManager.persist(application("pending-" + i, TutorRegistrationStatus.PENDING)).getId());
+        }
+        entityManager.persist(application("accepted-1", TutorRegistrationStatus.ACCEPTED));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void whenPagingQueueByKeyset_thenEveryPendingApplicationIsReturnedOnceInOrder() {
+        List<TutorApplicationSummary> firstPage = tutorRegistrationRepository
+                .findQueueFirstPage(TutorRegistrationStatus.PENDING, Limit.of(2));
+        TutorApplicationSummary last = firstPage.get(1);
+        List<TutorApplicationSummary> secondPage = tutorRegistrationRepository
+                .findQueuePageAfter(TutorRegistrationStatus.PENDING, last.submittedAt(), last.id(), Limit.of(2));
+
+        assertEquals(2, firstPage.size());
+        assertEquals(1, secondPage.size());
+        List<TutorApplicationSummary> all = new ArrayList<>(firstPage);
+        all.addAll(secondPage);
+        for (int i = 1; i < all.size(); i++) {
+            TutorApplicationSummary previous = all.get(i - 1);
+            TutorApplicationSummary current = all.get(i);
+            assertTrue(previous.submittedAt().isBefore(current.submittedAt())
+                    || (previous.submittedAt().isEqual(current.submittedAt()) && previous.id() < current.id()));
+        }
+        assertEquals(pendingIds.stream().sorted().toList(),
+                all.stream().map(TutorApplicationSummary::id).sorted().toList());
+        assertTrue(all.stream().allMatch(summary -> summary.status() == TutorRegistrationStatus.PENDING));
+    }
+
+    @Test
+    void whenQueueFilteredByStatus_thenOnlyThatStatusIsReturned() {
+        List<TutorApplicationSummary> accepted = tutorRegistrationRepository
+                .findQueueFirstPage(TutorRegistrationStatus.ACCEPTED, Limit.of(10));
+
+        assertEquals(1, accepted.size());
+        assertEquals("accepted-1", accepted.get(0).studentId());
+    }
+
+    @Test
+    void whenClaimingAndDecidingPending_thenOnlyPendingRowsChange() {
+        Long acceptedId = tutorRegistrationRepository.findQueueFirstPage(TutorRegistrationStatus.ACCEPTED, Limit.of(1))
+                .get(0).id();
+        List<Long> ids = List.of(pendingIds.get(1), pendingIds.get(0), acceptedId, -1L);
+
+        List<TutorApplicationClaim> claimed = tutorRegistrationRepository.claimPending(ids);
+
+        assertEquals(List.of(pendingIds.get(0), pendingIds.get(1)), claimed.stream().map(TutorApplicationClaim::id).toList());
+        assertEquals(2, tutorRegistrationRepository.decidePending(
+                claimed.stream().map(TutorApplicationClaim::id).toList(), TutorRegistrationStatus.DENIED, LocalDateTime.now()));
+        assertEquals(Set.of(pendingIds.get(0), pendingIds.get(1), acceptedId),
+                Set.copyOf(tutorRegistrationRepository.findExistingIds(ids)));
+        assertEquals(TutorRegistrationStatus.DENIED,
+                tutorRegistrationRepository.findById(pendingIds.get(0)).orElseThrow().getStatus());
+        assertNull(tutorRegistrationRepository.findById(acceptedId).orElseThrow().getProcessedAt());
+        assertEquals(TutorRegistrationStatus.PENDING,
+                tutorRegistrationRepository.findById(pendingIds.get(2)).orElseThrow().getStatus());
+    }
+
+    private static TutorRegistration application(String studentId, TutorRegistrationStatus status) {
+        TutorRegistration application = new TutorRegistration(studentId, "Exp", "Qual", "Bio");
+        application.setStatus(status);
+        return application;
+    }
+}
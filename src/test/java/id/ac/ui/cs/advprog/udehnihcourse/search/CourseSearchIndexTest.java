@@ -0,0 +1,112 @@
+package id.ac.ui.cs.advprog.udehnihcourse.search;
+
+import id.ac.ui.cs.advprog.udehnihcourse.event.CourseChangedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CourseSearchIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @InjectMocks
+    private CourseSearchIndex courseSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        courseSearchIndex.index(1L, "Advanced Java Programming", "Programming");
+        courseSearchIndex.index(2L, "Intro to JavaScript", "Web");
+        courseSearchIndex.index(3L, "Cooking 101", "Lifestyle");
+    }
+
+    @Test
+    void search_matchesSubstringsIgnoringCase() {
+        assertArrayEquals(new long[]{1, 2}, courseSearchIndex.search("JAVA"));
+        assertArrayEquals(new long[]{1}, courseSearchIndex.search("ava pro"));
+        assertArrayEquals(new long[]{2}, courseSearchIndex.search("script"));
+        assertArrayEquals(new long[]{3}, courseSearchIndex.search("10"));
+    }
+
+    @Test
+    void search_matchesCategory() {
+        assertArrayEquals(new long[]{3}, courseSearchIndex.search("lifestyle"));
+        assertArrayEquals(new long[]{2}, courseSearchIndex.search("we"));
+    }
+
+    @Test
+    void search_requiresContiguousMatch() {
+        assertArrayEquals(new long[0], courseSearchIndex.search("programming java"));
+        assertArrayEquals(new long[0], courseSearchIndex.search("nonexistent"));
+    }
+
+    @Test
+    void search_withBlankKeyword_returnsEveryCourse() {
+        assertArrayEquals(new long[]{1, 2, 3}, courseSearchIndex.search(""));
+        assertArrayEquals(new long[]{1, 2, 3}, courseSearchIndex.search(null));
+    }
+
+    @Test
+    void onCourseChanged_reindexesAndRemoves() {
+        courseSearchIndex.onCourseChanged(CourseChangedEvent.updated(2L, "Kotlin Basics", "Web"));
+        courseSearchIndex.onCourseChanged(CourseChangedEvent.deleted(3L));
+
+        assertArrayEquals(new long[]{1}, courseSearchIndex.search("java"));
+        assertArrayEquals(new long[]{2}, courseSearchIndex.search("kotlin"));
+        assertArrayEquals(new long[0], courseSearchIndex.search("cooking"));
+        assertArrayEquals(new long[]{1, 2}, courseSearchIndex.search(""));
+    }
+
+    @Test
+    void rebuild_loadsCoursesAndMarksReady() {
+        when(courseRepository.findAllSummaries()).thenReturn(List.of(
+                new CourseSummary(4L, "Data Science", "Data", BigDecimal.ONE, "tutor-1", null, 0L)));
+        assertFalse(courseSearchIndex.isReady());
+
+        courseSearchIndex.rebuild();
+
+        assertTrue(courseSearchIndex.isReady());
+        assertArrayEquals(new long[]{4}, courseSearchIndex.search("science"));
+    }
+
+    @Test
+    void rebuild_whenCourseDeletedWhileLoading_doesNotReaddIt() {
+        when(courseRepository.findAllSummaries()).thenAnswer(invocation -> {
+            // The snapshot was read before the delete committed; its event arrives before the snapshot is applied.
+            courseSearchIndex.onCourseChanged(CourseChangedEvent.deleted(3L));
+            return List.of(new CourseSummary(3L, "Cooking 101", "Lifestyle", BigDecimal.ONE, "tutor-1", null, 0L));
+        });
+
+        courseSearchIndex.rebuild();
+
+        assertArrayEquals(new long[0], courseSearchIndex.search("cooking"));
+        assertArrayEquals(new long[]{1, 2}, courseSearchIndex.search(""));
+    }
+
+    @Test
+    void rebuild_whenCourseUpdatedWhileLoading_keepsTheNewerTitle() {
+        when(courseRepository.findAllSummaries()).thenAnswer(invocation -> {
+            courseSearchIndex.onCourseChanged(CourseChangedEvent.updated(2L, "Kotlin Basics", "Web"));
+            return List.of(new CourseSummary(2L, "Intro to JavaScript", "Web", BigDecimal.ONE, "tutor-1", null, 0L));
+        });
+
+        courseSearchIndex.rebuild();
+        courseSearchIndex.onCourseChanged(CourseChangedEvent.updated(1L, "Advanced Go", "Programming"));
+
+        assertArrayEquals(new long[]{2}, courseSearchIndex.search("kotlin"));
+        assertArrayEquals(new long[0], courseSearchIndex.search("javascript"));
+        assertArrayEquals(new long[]{1}, courseSearchIndex.search("go"));
+    }
+}
@@ -0,0 +1,81 @@
+package id.ac.ui.cs.advprog.udehnihcourse.search;
+
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InvertedIndexSearchBackendTest {
+
+    @Mock
+    private CourseSearchIndex courseSearchIndex;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @InjectMocks
+    private InvertedIndexSearchBackend backend;
+
+    private CourseSummary summary(long id) {
+        return new CourseSummary(id, "Java " + id, "Programming", BigDecimal.TEN, "tutor-1", null, 0L);
+    }
+
+    @Test
+    void search_hydratesMatchesInIndexOrder() {
+        when(courseSearchIndex.isReady()).thenReturn(true);
+        when(courseSearchIndex.search("java")).thenReturn(new long[]{1L, 2L});
+        when(courseRepository.findSummariesByIdIn(List.of(1L, 2L))).thenReturn(List.of(summary(2L), summary(1L)));
+
+        List<CourseSummary> result = backend.search("java", Pageable.unpaged());
+
+        assertEquals(List.of(1L, 2L), result.stream().map(CourseSummary::id).toList());
+        verify(courseRepository, never()).findSummariesByTitleContainingIgnoreCase(any());
+    }
+
+    @Test
+    void search_withPage_onlyHydratesRequestedIds() {
+        when(courseSearchIndex.isReady()).thenReturn(true);
+        when(courseSearchIndex.search("java")).thenReturn(new long[]{1L, 2L, 3L});
+        when(courseRepository.findSummariesByIdIn(List.of(3L))).thenReturn(List.of(summary(3L)));
+
+        List<CourseSummary> result = backend.search("java", PageRequest.of(1, 2));
+
+        assertEquals(1, result.size());
+        assertEquals(3L, result.get(0).id());
+    }
+
+    @Test
+    void search_skipsIdsDeletedSinceIndexing() {
+        when(courseSearchIndex.isReady()).thenReturn(true);
+        when(courseSearchIndex.search("java")).thenReturn(new long[]{1L, 2L});
+        when(courseRepository.findSummariesByIdIn(List.of(1L, 2L))).thenReturn(List.of(summary(2L)));
+
+        List<CourseSummary> result = backend.search("java", Pageable.unpaged());
+
+        assertEquals(List.of(2L), result.stream().map(CourseSummary::id).toList());
+    }
+
+    @Test
+    void search_whenIndexNotReady_fallsBackToDatabase() {
+        when(courseSearchIndex.isReady()).thenReturn(false);
+        when(courseRepository.findSummariesByTitleContainingIgnoreCase("java")).thenReturn(List.of(summary(1L)));
+
+        List<CourseSummary> result = backend.search("java", Pageable.unpaged());
+
+        assertEquals(1, result.size());
+        verify(courseSearchIndex, never()).search(any());
+    }
+}
@@ -0,0 +1,46 @@
+package id.ac.ui.cs.advprog.udehnihcourse.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongPostingListTest {
+
+    @Test
+    void add_keepsIdsSortedAndUnique() {
+        LongPostingList list = new LongPostingList();
+        list.add(5);
+        list.add(1);
+        list.add(9);
+        list.add(3);
+        assertFalse(list.add(5));
+
+        assertArrayEquals(new long[]{1, 3, 5, 9}, list.toArray());
+        assertEquals(4, list.size());
+        assertTrue(list.contains(3));
+    }
+
+    @Test
+    void remove_dropsIdAndReportsMissing() {
+        LongPostingList list = new LongPostingList();
+        list.add(1);
+        list.add(2);
+
+        assertTrue(list.remove(1));
+        assertFalse(list.remove(1));
+        assertArrayEquals(new long[]{2}, list.toArray());
+        assertTrue(list.remove(2));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void intersect_returnsCommonIdsInOrder() {
+        LongPostingList list = new LongPostingList();
+        for (long id = 1; id <= 10; id++) {
+            list.add(id);
+        }
+
+        assertArrayEquals(new long[]{2, 4, 10}, list.intersect(new long[]{0, 2, 4, 10, 11}));
+        assertArrayEquals(new long[0], list.intersect(new long[]{20, 30}));
+    }
+}
@@ -0,0 +1,54 @@
+package id.ac.ui.cs.advprog.udehnihcourse.search;
+
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostgresFullTextSearchBackendTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @InjectMocks
+    private PostgresFullTextSearchBackend backend;
+
+    private CourseSummary summary(long id) {
+        return new CourseSummary(id, "Java " + id, "Programming", BigDecimal.TEN, "tutor-1", null, 0L);
+    }
+
+    @Test
+    void search_keepsRankOrderFromRankedQuery() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(courseRepository.searchRankedIds("java", pageable)).thenReturn(new PageImpl<>(List.of(7L, 3L), pageable, 2));
+        when(courseRepository.findSummariesByIdIn(List.of(7L, 3L))).thenReturn(List.of(summary(3L), summary(7L)));
+
+        List<CourseSummary> result = backend.search("java", pageable);
+
+        assertEquals(List.of(7L, 3L), result.stream().map(CourseSummary::id).toList());
+    }
+
+    @Test
+    void search_withBlankKeyword_listsCoursesById() {
+        when(courseRepository.findSummariesBy(PageRequest.of(0, 10, Sort.by("id")))).thenReturn(List.of(summary(1L)));
+
+        List<CourseSummary> result = backend.search(" ", PageRequest.of(0, 10));
+
+        assertEquals(1, result.size());
+        verify(courseRepository, never()).searchRankedIds(any(), any());
+    }
+}
@@ -0,0 +1,158 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import id.ac.ui.cs.advprog.udehnihcourse.event.TutorRegistrationProcessedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.event.TutorRegistrationsProcessedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorRegistrationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AcceptedTutorsTest {
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private TutorRegistrationRepository tutorRegistrationRepository;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AcceptedTutors acceptedTutors;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(clock.instant()).thenReturn(START);
+        acceptedTutors = new AcceptedTutors(tutorRegistrationRepository, meterRegistry, Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    void isAccepted_afterLoad_answersFromMemory() {
+        when(tutorRegistrationRepository.findStudentIdsByStatus(TutorRegistrationStatus.ACCEPTED))
+                .thenReturn(List.of("tutor-1"));
+        acceptedTutors.load();
+
+        assertTrue(acceptedTutors.isAccepted("tutor-1"));
+        assertFalse(acceptedTutors.isAccepted("tutor-2"));
+        assertFalse(acceptedTutors.isAccepted(null));
+        verify(tutorRegistrationRepository, times(1)).findStudentIdsByStatus(TutorRegistrationStatus.ACCEPTED);
+    }
+
+    @Test
+    void isAccepted_beforeLoad_loadsOnFirstCheck() {
+        when(tutorRegistrationRepository.findStudentIdsByStatus(TutorRegistrationStatus.ACCEPTED))
+                .thenReturn(List.of("tutor-1"));
+
+        assertTrue(acceptedTutors.isAccepted("tutor-1"));
+        assertTrue(acceptedTutors.isAccepted("tutor-1"));
+        verify(tutorRegistrationRepository, times(1)).findStudentIdsByStatus(TutorRegistrationStatus.ACCEPTED);
+    }
+
+    @Test
+    void onRegistrationProcessed_updatesSetWithoutQuerying() {
+        when(tutorRegistrationRepository.findStudentIdsByStatus(TutorRegistrationStatus.ACCEPTED))
+                .thenReturn(List.of("tutor-1"));
+        acceptedTutors.load();
+
+        acceptedTutors.onRegistrationProcessed(
+                new TutorRegistrationProcessedEvent(2L, "tutor-2", TutorRegistrationStatus.ACCEPTED));
+        acceptedTutors.onRegistrationProcessed(
+                new TutorRegistrationProcessedEvent(1L, "tutor-1", TutorRegistrationStatus.DENIED));
+
+        assertTrue(acceptedTutors.isAccepted("tutor-2"));
+        assertFalse(acceptedTutors.isAccepted("tutor-1"));
+        verify(tutorRegistrationRepository, times(1)).findStudentIdsByStatus(TutorRegistrationStatus.ACCEPTED);
+    }
+
+    @Test
+    void onRegistrationsProcessed_appliesWholeBatchWithoutQuerying() {
+        when(tutorRegistrationRepository.findStudentIdsByStatus(TutorRegistrationStatus.ACCEPTED))
+                .thenReturn(List.of("tutor-1"));
+        acceptedTutors.load();
+
+        acceptedTutors.onRegistrationsProcessed(new TutorRegistrationsProcessedEvent(List.of(
+                new TutorRegistrationProcessedEvent(2L, "tutor-2", TutorRegistrationStatus.ACCEPTED),
+                new TutorRegistrationProcessedEvent(3L, "tutor-3", TutorRegistrationStatus.ACCEPTED),
+                new TutorRegistrationProcessedEvent(4L, "tutor-4", TutorRegistrationStatus.DENIED))));
+
+        assertTrue(acceptedTutors.isAccepted("tutor-2"));
+        assertTrue(acceptedTutors.isAccepted("tutor-3"));
+        assertFalse(acceptedTutors.isAccepted("tutor-4"));
+        verify(tutorRegistrationRepository, times(1)).findStudentIdsByStatus(TutorRegistrationStatus.ACCEPTED);
+    }
+
+    @Test
+    void refresh_countsEntriesItHadToCorrect() {
+        when(tutorRegistrationRepository.findStudentIdsByStatus(TutorRegistrationStatus.ACCEPTED))
+                .thenReturn(List.of("tutor-1", "tutor-2"))
+                .thenReturn(List.of("tutor-2", "tutor-3"));
+        acceptedTutors.load();
+
+        acceptedTutors.refresh();
+
+        assertFalse(acceptedTutors.isAccepted("tutor-1"));
+        assertTrue(acceptedTutors.isAccepted("tutor-3"));
+        assertEquals(1.0, meterRegistry.get(AcceptedTutors.CORRECTIONS_COUNTER).tag("kind", "added").counter().count());
+        assertEquals(1.0, meterRegistry.get(AcceptedTutors.CORRECTIONS_COUNTER).tag("kind", "removed").counter().count());
+        assertEquals(2.0, meterRegistry.get("udehnih.tutors.accepted.size").gauge().value());
+    }
+
+    @Test
+    void isAccepted_whenSnapshotOlderThanTtl_reloadsOnce() {
+        when(tutorRegistrationRepository.findStudentIdsByStatus(TutorRegistrationStatus.ACCEPTED))
+                .thenReturn(List.of("tutor-1"))
+                .thenReturn(List.of());
+        acceptedTutors.load();
+        when(clock.instant()).thenReturn(START.plus(Duration.ofMinutes(6)));
+
+        assertFalse(acceptedTutors.isAccepted("tutor-1"));
+        assertFalse(acceptedTutors.isAccepted("tutor-1"));
+
+        verify(tutorRegistrationRepository, times(2)).findStudentIdsByStatus(TutorRegistrationStatus.ACCEPTED);
+        assertEquals(1.0, meterRegistry.get(AcceptedTutors.RELOADS_COUNTER).tag("trigger", "expired").counter().count());
+        assertEquals(1.0, meterRegistry.get(AcceptedTutors.CORRECTIONS_COUNTER).tag("kind", "removed").counter().count());
+    }
+
+    @Test
+    void isAccepted_concurrentFirstChecksOnVirtualThreads_shareOneReloadAndKeepChangesMadeDuringIt() throws Exception {
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        when(tutorRegistrationRepository.findStudentIdsByStatus(TutorRegistrationStatus.ACCEPTED)).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            releaseQuery.await();
+            return List.of("tutor-1");
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Boolean> first = executor.submit(() -> acceptedTutors.isAccepted("tutor-1"));
+            assertTrue(queryStarted.await(5, TimeUnit.SECONDS));
+            Future<Boolean> second = executor.submit(() -> acceptedTutors.isAccepted("tutor-2"));
+            // Applying a change never waits for the query in flight.
+            acceptedTutors.onRegistrationProcessed(
+                    new TutorRegistrationProcessedEvent(1L, "tutor-2", TutorRegistrationStatus.ACCEPTED));
+            releaseQuery.countDown();
+
+            assertTrue(first.get(5, TimeUnit.SECONDS));
+            assertTrue(second.get(5, TimeUnit.SECONDS));
+        }
+        verify(tutorRegistrationRepository, times(1)).findStudentIdsByStatus(TutorRegistrationStatus.ACCEPTED);
+    }
+}
@@ -0,0 +1,182 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.model.ArticleBody;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleBodyRefCountRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleBodyRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleBodyStore;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleContent;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The job commits one batch per transaction, so the test must not wrap everything in one.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ArticleBodyDeduplicationJobTest {
+    private static final String BOILERPLATE = "Course licence: CC BY-SA 4.0.";
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleBodyRepository articleBodyRepository;
+
+    @Autowired
+    private ArticleBodyRefCountRepository articleBodyRefCountRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private ArticleBodyStore articleBodyStore;
+    private ArticleBodyDeduplicationJob job;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        articleBodyStore = new ArticleBodyStore(entityManager, articleBodyRepository, articleBodyRefCountRepository,
+                true, 16);
+        job = new ArticleBodyDeduplicationJob(articleRepository, articleBodyRepository, articleBodyRefCountRepository,
+                articleBodyStore, entityManager, transactionManager, 2, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            courseRepository.deleteAll();
+            articleBodyRefCountRepository.deleteAll();
+            articleBodyRepository.deleteAll();
+        });
+    }
+
+    @Test
+    void deduplicate_storesIdenticalInlineBodiesOnce() {
+        Long first = saveCourse(BOILERPLATE, "Unique body");
+        Long second = saveCourse(BOILERPLATE);
+
+        assertEquals(3, job.deduplicate());
+
+        String hash = ArticleBody.hash(BOILERPLATE);
+        assertEquals(2, articleBodyRepository.count());
+        assertEquals(2, refCount(hash));
+        ArticleContent stored = content(second);
+        assertEquals(hash, stored.contentHash());
+        assertEquals(BOILERPLATE, stored.text());
+        assertTrue(stored.isCompressed());
+        assertEquals("Unique body", transaction.execute(status ->
+                courseRepository.findById(first).orElseThrow().getSections().get(0).getArticles().get(1).getContent()));
+        assertEquals(0, job.deduplicate());
+    }
+
+    @Test
+    void collectGarbage_removesBodiesReleasedByDeletedCourses() {
+        Long kept = saveCourse(BOILERPLATE);
+        Long deleted = saveCourse(BOILERPLATE, "Only in the deleted course");
+        job.deduplicate();
+
+        transaction.executeWithoutResult(status -> {
+            articleBodyStore.releaseCourse(deleted);
+            courseRepository.deleteById(deleted);
+        });
+        assertEquals(1, refCount(ArticleBody.hash(BOILERPLATE)));
+
+        assertEquals(1, job.collectGarbage());
+        assertFalse(articleBodyRepository.existsById(ArticleBody.hash("Only in the deleted course")));
+        assertEquals(BOILERPLATE, content(kept).text());
+    }
+
+    @Test
+    void collectGarbage_repairsDriftedCountsBeforeDeleting() {
+        Long courseId = saveCourse(BOILERPLATE);
+        job.deduplicate();
+        String hash = ArticleBody.hash(BOILERPLATE);
+        transaction.executeWithoutResult(status -> articleBodyRefCountRepository.addReferences(hash, -1));
+
+        assertEquals(0, job.collectGarbage());
+        assertEquals(1, refCount(hash));
+        assertEquals(BOILERPLATE, content(courseId).text());
+    }
+
+    private Long saveCourse(String... bodies) {
+        Course course = Course.builder().title("Course").tutorId("tutor-1").build();
+        Section section = new Section();
+        section.setTitle("Section");
+        for (String body : bodies) {
+            Article article = new Article();
+            article.setTitle("Article");
+            article.setContent(body);
+            section.addArticle(article);
+        }
+        course.addSection(section);
+        return transaction.execute(status -> courseRepository.save(course).getId());
+    }
+
+    private ArticleContent content(Long courseId) {
+        return transaction.execute(status -> {
+            List<Long> ids = courseRepository.findById(courseId).orElseThrow().getSections().get(0).getArticles()
+                    .stream().map(Article::getId).toList();
+            return articleRepository.findContentByIdAndCourseId(ids.get(0), courseId).orElseThrow();
+        });
+    }
+
+    @Test
+    void intern_insertsNewBodiesInTheCallersTransaction() {
+        Long courseId = saveCourse("Rolled back body");
+        String hash = ArticleBody.hash("Rolled back body");
+
+        transaction.executeWithoutResult(status -> {
+            assertEquals(1, articleBodyStore.intern(articles(courseId)));
+            assertEquals(1, refCount(hash));
+            status.setRollbackOnly();
+        });
+
+        assertFalse(articleBodyRepository.existsById(hash));
+        assertFalse(articleBodyRefCountRepository.existsById(hash));
+    }
+
+    @Test
+    void intern_reusesExistingBodyAndKeepsItCached() {
+        Long first = saveCourse(BOILERPLATE);
+        Long second = saveCourse(BOILERPLATE, "Unique body");
+        String hash = ArticleBody.hash(BOILERPLATE);
+        transaction.executeWithoutResult(status -> articleBodyStore.intern(articles(first)));
+        transaction.executeWithoutResult(status -> entityManager.find(ArticleBody.class, hash));
+
+        transaction.executeWithoutResult(status -> articleBodyStore.intern(articles(second)));
+
+        assertEquals(2, articleBodyRepository.count());
+        assertEquals(2, refCount(hash));
+        assertTrue(entityManager.getEntityManagerFactory().getCache().contains(ArticleBody.class, hash));
+    }
+
+    private List<Article> articles(Long courseId) {
+        return courseRepository.findById(courseId).orElseThrow().getSections().get(0).getArticles();
+    }
+
+    private long refCount(String hash) {
+        return articleBodyRefCountRepository.findById(hash).orElseThrow().getRefCount();
+    }
+}
@@ -0,0 +1,107 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.model.ArticleContentCodec;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleContent;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "udehnih.article.compression.enabled=true",
+        "udehnih.article.compression.min-size=64"
+})
+public class ArticleContentMigrationServiceTest {
+    private static final String LONG_BODY = "A long article body that compresses well. ".repeat(20);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Course course;
+    private Section section;
+
+    @BeforeEach
+    void setUp() {
+        course = Course.builder().title("Course").tutorId("tutor-1").build();
+        section = new Section();
+        section.setTitle("Section");
+        course.addSection(section);
+        entityManager.persist(course);
+    }
+
+    @Test
+    void persist_whenBodyReachesMinSize_storesItCompressed() {
+        Long longId = persistArticle(LONG_BODY).getId();
+        Long shortId = persistArticle("Short body").getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        ArticleContent stored = articleRepository.findContentByIdAndCourseId(longId, course.getId()).orElseThrow();
+        assertEquals(ArticleContentCodec.GZIP, stored.codec());
+        assertNull(stored.content());
+        assertEquals(LONG_BODY, ArticleContentCodec.gunzip(stored.compressedContent()));
+        assertEquals(LONG_BODY, articleRepository.findById(longId).orElseThrow().getContent());
+
+        ArticleContent plain = articleRepository.findContentByIdAndCourseId(shortId, course.getId()).orElseThrow();
+        assertEquals(ArticleContentCodec.PLAIN, plain.codec());
+        assertEquals("Short body", plain.text());
+    }
+
+    @Test
+    void findContent_whenArticleBelongsToAnotherCourse_returnsEmpty() {
+        Long id = persistArticle("Body").getId();
+        entityManager.flush();
+
+        assertTrue(articleRepository.findContentByIdAndCourseId(id, course.getId() + 1).isEmpty());
+    }
+
+    @Test
+    void compressExisting_compressesLegacyPlainRowsAboveMinSize() {
+        Long legacyId = persistArticle("Placeholder").getId();
+        Long shortId = persistArticle("Short body").getId();
+        entityManager.flush();
+        // Rows written before compression existed: a large plain body and no codec.
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE articles SET content = :content, content_codec = NULL WHERE id = :id")
+                .setParameter("content", LONG_BODY)
+                .setParameter("id", legacyId)
+                .executeUpdate();
+        entityManager.clear();
+
+        ArticleContentMigrationService migration = new ArticleContentMigrationService(articleRepository,
+                entityManager.getEntityManager(), transactionManager, 64, 1, false);
+        long compressed = migration.compressExisting();
+
+        assertEquals(1, compressed);
+        ArticleContent legacy = articleRepository.findContentByIdAndCourseId(legacyId, course.getId()).orElseThrow();
+        assertTrue(legacy.isCompressed());
+        assertEquals(LONG_BODY, legacy.text());
+        assertFalse(articleRepository.findContentByIdAndCourseId(shortId, course.getId()).orElseThrow().isCompressed());
+        assertEquals(0, migration.compressExisting());
+    }
+
+    private Article persistArticle(String content) {
+        Article article = new Article();
+        article.setTitle("Article");
+        article.setContent(content);
+        section.addArticle(article);
+        entityManager.persist(article);
+        return article;
+    }
+}
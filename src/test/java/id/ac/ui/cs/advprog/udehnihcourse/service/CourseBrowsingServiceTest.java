@@ -1,6 +1,14 @@
 package id.ac.ui.cs.advprog.udehnihcourse.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -8,24 +16,69 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
 
+import id.ac.ui.cs.advprog.udehnihcourse.cache.CourseDetailCache;
+import id.ac.ui.cs.advprog.udehnihcourse.client.LocalTutorLookupClient;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CourseDetailDTO;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CourseListDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.CoursePageDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.enrollment.EnrollmentCounter;
 import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
 import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
 import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.coursebrowsing.ArticleDTO;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleOutline;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseHeader;
 import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.SectionOutline;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.SectionRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseSummary;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseTreeLoader;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseVersion;
+import id.ac.ui.cs.advprog.udehnihcourse.search.CourseSearchBackend;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 
 public class CourseBrowsingServiceTest {
-    
+
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private SectionRepository sectionRepository;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private CourseTreeLoader courseTreeLoader;
+
+    @Mock
+    private CourseSearchBackend courseSearchBackend;
+
+    @Mock
+    private EnrollmentCounter enrollmentCounter;
+
+    @Spy
+    private CourseDetailCache courseDetailCache = new CourseDetailCache(new SimpleMeterRegistry(), 1_000_000, Duration.ofMinutes(1));
+
+    @Spy
+    private TutorDirectory tutorDirectory = new TutorDirectory(new LocalTutorLookupClient(), new SimpleMeterRegistry(),
+            Duration.ofMinutes(1), Duration.ofMinutes(1));
+
     @InjectMocks
     private CourseBrowsingService courseBrowsingService;
 
@@ -57,31 +110,70 @@ public class CourseBrowsingServiceTest {
                 .build();
     }
 
+    private CourseSummary summaryOf(Course source) {
+        return new CourseSummary(source.getId(), source.getTitle(), source.getCategory(),
+                source.getPrice(), source.getTutorId(), source.getCreatedAt(), 0L);
+    }
+
     @Test
     void testGetAllCourses() {
-        when(courseRepository.findAll()).thenReturn(List.of(course));
+        when(courseRepository.findAllSummaries()).thenReturn(List.of(summaryOf(course)));
 
         List<CourseListDTO> courses = courseBrowsingService.getAllCourses();
 
         assertEquals(1, courses.size());
         assertEquals("Java Programming", courses.get(0).getTitle());
         assertEquals(new BigDecimal("100.00"), courses.get(0).getPrice());
+        assertEquals(LocalTutorLookupClient.PLACEHOLDER_NAME, courses.get(0).getTutorName());
+    }
+
+    @Test
+    void testGetAllCourses_mergesPersistedAndPendingEnrollments() {
+        CourseSummary summary = new CourseSummary(1L, "Java Programming", null, BigDecimal.TEN, "tutor-1", null, 5L);
+        when(courseRepository.findAllSummaries()).thenReturn(List.of(summary));
+        when(enrollmentCounter.pendingDelta(1L)).thenReturn(2L);
+
+        List<CourseListDTO> courses = courseBrowsingService.getAllCourses();
+
+        assertEquals(7L, courses.get(0).getEnrollmentCount());
+    }
+
+    @Test
+    void testGetAllCourses_resolvesTutorNamesOncePerList() {
+        Course sameTutor = Course.builder().id(2L).title("Java 2").price(BigDecimal.ONE).tutorId("tutor-1").build();
+        when(courseRepository.findAllSummaries()).thenReturn(List.of(summaryOf(course), summaryOf(sameTutor)));
+
+        courseBrowsingService.getAllCourses();
+
+        verify(tutorDirectory, times(1)).resolveNames(List.of("tutor-1", "tutor-1"));
     }
 
     @Test
     void testSearchCourses() {
-        when(courseRepository.findByTitleContainingIgnoreCase("java")).thenReturn(List.of(course));
+        when(courseSearchBackend.search("java", Pageable.unpaged())).thenReturn(List.of(summaryOf(course)));
 
         List<CourseListDTO> courses = courseBrowsingService.searchCourses("java");
 
         assertEquals(1, courses.size());
         assertEquals("Java Programming", courses.get(0).getTitle());
         assertEquals(new BigDecimal("100.00"), courses.get(0).getPrice());
+        verify(courseRepository, never()).findSummariesByTitleContainingIgnoreCase("java");
+    }
+
+    @Test
+    void testSearchCourses_withPage_passesCappedPageRequest() {
+        when(courseSearchBackend.search("java", PageRequest.of(1, CourseBrowsingService.MAX_PAGE_SIZE)))
+                .thenReturn(List.of(summaryOf(course)));
+
+        List<CourseListDTO> courses = courseBrowsingService.searchCourses("java", 1, 10_000);
+
+        assertEquals(1, courses.size());
+        assertEquals(1L, courses.get(0).getId());
     }
 
     @Test
     void testGetCourseById() {
-        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        when(courseTreeLoader.load(1L)).thenReturn(Optional.of(course));
 
         CourseDetailDTO courseDetail = courseBrowsingService.getCourseById(1L);
 
@@ -92,4 +184,131 @@ public class CourseBrowsingServiceTest {
         assertEquals(1, courseDetail.getSections().size());
         assertEquals("Section 1", courseDetail.getSections().get(0).getTitle());
     }
+
+    @Test
+    void testGetCourseById_servesRepeatedReadsFromCache() {
+        when(courseTreeLoader.load(1L)).thenReturn(Optional.of(course));
+
+        CourseDetailDTO first = courseBrowsingService.getCourseById(1L);
+        CourseDetailDTO second = courseBrowsingService.getCourseById(1L);
+
+        assertEquals(first, second);
+        verify(courseTreeLoader, times(1)).load(1L);
+    }
+
+    @Test
+    void testGetCoursePage_whenMoreRowsThanPageSize_returnsNextCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+        Course first = Course.builder().id(1L).title("A").price(BigDecimal.ONE).tutorId("t").createdAt(createdAt).build();
+        Course second = Course.builder().id(2L).title("B").price(BigDecimal.ONE).tutorId("t").createdAt(createdAt).build();
+        when(courseRepository.findFirstPage(Limit.of(2))).thenReturn(List.of(summaryOf(first), summaryOf(second)));
+
+        CoursePageDTO page = courseBrowsingService.getCoursePage(null, 1);
+
+        assertEquals(1, page.getCourses().size());
+        assertEquals("A", page.getCourses().get(0).getTitle());
+        assertNotNull(page.getNextCursor());
+        CourseCursor next = CourseCursor.decode(page.getNextCursor());
+        assertEquals(createdAt, next.createdAt());
+        assertEquals(1L, next.id());
+    }
+
+    @Test
+    void testGetCoursePage_withCursor_queriesAfterCursorPosition() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+        String cursor = new CourseCursor(createdAt, 5L).encode();
+        when(courseRepository.findPageAfter(eq(createdAt), eq(5L), any(Limit.class))).thenReturn(List.of(summaryOf(course)));
+
+        CoursePageDTO page = courseBrowsingService.getCoursePage(cursor, null);
+
+        assertEquals(1, page.getCourses().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetCoursePage_capsPageSize() {
+        when(courseRepository.findFirstPage(Limit.of(CourseBrowsingService.MAX_PAGE_SIZE + 1))).thenReturn(List.of(summaryOf(course)));
+
+        CoursePageDTO page = courseBrowsingService.getCoursePage(null, 10_000);
+
+        assertEquals(1, page.getCourses().size());
+    }
+
+    @Test
+    void testGetCoursePage_withMalformedCursor_throwsBadRequest() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> courseBrowsingService.getCoursePage("not-a-cursor", 10));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    @Test
+    void testGetCourseOutline_groupsArticlesWithoutContent() {
+        when(courseRepository.findHeaderById(1L)).thenReturn(Optional.of(
+                new CourseHeader(1L, "Java Programming", "Learn Java from scratch", new BigDecimal("100.00"), "tutor-1")));
+        when(sectionRepository.findOutlinesByCourseId(1L)).thenReturn(List.of(
+                new SectionOutline(1L, "Section 1"), new SectionOutline(2L, "Section 2")));
+        when(articleRepository.findOutlinesByCourseId(1L)).thenReturn(List.of(
+                new ArticleOutline(10L, "Article 1", "TEXT", 1L)));
+
+        CourseDetailDTO outline = courseBrowsingService.getCourseOutline(1L);
+
+        assertEquals("Java Programming", outline.getTitle());
+        assertEquals(2, outline.getSections().size());
+        ArticleDTO articleDto = outline.getSections().get(0).getArticles().get(0);
+        assertEquals(10L, articleDto.getId());
+        assertEquals("TEXT", articleDto.getContentType());
+        assertNull(articleDto.getContent());
+        assertEquals(0, outline.getSections().get(1).getArticles().size());
+        verify(courseTreeLoader, never()).load(any());
+    }
+
+    @Test
+    void testGetCourseOutline_whenMissing_throwsNotFound() {
+        when(courseRepository.findHeaderById(1L)).thenReturn(Optional.empty());
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> courseBrowsingService.getCourseOutline(1L));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+    }
+
+    @Test
+    void testGetArticle_returnsContent() {
+        when(articleRepository.findByIdAndSectionCourseId(1L, 1L)).thenReturn(Optional.of(article));
+
+        ArticleDTO articleDto = courseBrowsingService.getArticle(1L, 1L);
+
+        assertEquals("Content of Article 1", articleDto.getContent());
+        assertEquals("TEXT", articleDto.getContentType());
+    }
+
+    @Test
+    void testGetArticle_whenNotInCourse_throwsNotFound() {
+        when(articleRepository.findByIdAndSectionCourseId(1L, 2L)).thenReturn(Optional.empty());
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> courseBrowsingService.getArticle(2L, 1L));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+    }
+
+    @Test
+    void testGetCourseVersion_usesMetadataQueryOnly() {
+        CourseVersion version = new CourseVersion(1L, LocalDateTime.now(), 2L);
+        when(courseRepository.findVersionById(1L)).thenReturn(Optional.of(version));
+
+        assertEquals(version, courseBrowsingService.getCourseVersion(1L));
+        verify(courseTreeLoader, never()).load(any());
+    }
+
+    @Test
+    void testGetCourseVersion_whenMissing_throwsNotFound() {
+        when(courseRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> courseBrowsingService.getCourseVersion(1L));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+    }
 }
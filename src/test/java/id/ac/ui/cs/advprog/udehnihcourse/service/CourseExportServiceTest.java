@@ -0,0 +1,122 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class CourseExportServiceTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CourseExportService courseExportService;
+
+    @BeforeEach
+    void setUp() {
+        courseExportService = new CourseExportService(entityManager.getEntityManager(), transactionManager, objectMapper);
+    }
+
+    @Test
+    void exportCatalog_writesOneLinePerCourseWithNestedTree() throws Exception {
+        Course full = Course.builder().title("Full Course").category("Programming").tutorId("tutor-1")
+                .price(new BigDecimal("10.00")).build();
+        Section first = section("Intro");
+        first.addArticle(article("A1", "Body 1"));
+        first.addArticle(article("A2", "Body 2"));
+        Section second = section("Empty Section");
+        full.addSection(first);
+        full.addSection(second);
+        entityManager.persist(full);
+
+        Course empty = Course.builder().title("Empty Course").tutorId("tutor-2").build();
+        entityManager.persist(empty);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<JsonNode> lines = export();
+
+        assertEquals(2, lines.size());
+        JsonNode fullLine = lines.get(0);
+        assertEquals("Full Course", fullLine.get("title").asText());
+        assertEquals(0, new BigDecimal("10.00").compareTo(fullLine.get("price").decimalValue()));
+        assertEquals(2, fullLine.get("sections").size());
+        JsonNode intro = fullLine.get("sections").get(0);
+        assertEquals("Intro", intro.get("title").asText());
+        assertEquals(2, intro.get("articles").size());
+        assertEquals("Body 2", intro.get("articles").get(1).get("content").asText());
+        assertEquals(0, fullLine.get("sections").get(1).get("articles").size());
+
+        JsonNode emptyLine = lines.get(1);
+        assertEquals("Empty Course", emptyLine.get("title").asText());
+        assertEquals(0, emptyLine.get("sections").size());
+    }
+
+    @Test
+    void exportCatalog_leavesNothingInPersistenceContext() throws Exception {
+        Course course = Course.builder().title("Course").tutorId("tutor-1").build();
+        Section section = section("Section");
+        section.addArticle(article("Article", "Body"));
+        course.addSection(section);
+        entityManager.persist(course);
+        entityManager.flush();
+        entityManager.clear();
+
+        export();
+
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        assertEquals(0, session.getStatistics().getEntityCount());
+    }
+
+    @Test
+    void exportCatalog_whenCatalogEmpty_writesNothing() throws Exception {
+        assertTrue(export().isEmpty());
+    }
+
+    private List<JsonNode> export() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        courseExportService.exportCatalog(out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private static Section section(String title) {
+        Section section = new Section();
+        section.setTitle(title);
+        return section;
+    }
+
+    private static Article article(String title, String content) {
+        Article article = new Article();
+        article.setTitle(title);
+        article.setContent(content);
+        return article;
+    }
+}
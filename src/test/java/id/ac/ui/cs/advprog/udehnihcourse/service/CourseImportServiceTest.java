@@ -0,0 +1,212 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseImportResponse;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseImportResult;
+import id.ac.ui.cs.advprog.udehnihcourse.event.CourseChangedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.importer.JpaBatchCourseImportWriter;
+import id.ac.ui.cs.advprog.udehnihcourse.model.ArticleBody;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistration;
+import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleBodyRefCountRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleBodyRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleBodyStore;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseTreeLoader;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorRegistrationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// Every batch commits its own transaction, so the test must not wrap them in one.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(CourseTreeLoader.class)
+public class CourseImportServiceTest {
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TutorRegistrationRepository tutorRegistrationRepository;
+
+    @Autowired
+    private CourseTreeLoader courseTreeLoader;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ArticleBodyRepository articleBodyRepository;
+
+    @Autowired
+    private ArticleBodyRefCountRepository articleBodyRefCountRepository;
+
+    private ApplicationEventPublisher eventPublisher;
+    private ArticleBodyStore articleBodyStore;
+    private CourseImportService courseImportService;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        articleBodyStore = new ArticleBodyStore(entityManager, articleBodyRepository, articleBodyRefCountRepository,
+                false, 1024);
+        courseImportService = service(2);
+
+        TutorRegistration tutor = new TutorRegistration("tutor-1", "exp", "qual", "bio");
+        tutor.setStatus(TutorRegistrationStatus.ACCEPTED);
+        tutorRegistrationRepository.save(tutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            courseRepository.deleteAll();
+            articleBodyRefCountRepository.deleteAll();
+            articleBodyRepository.deleteAll();
+        });
+        tutorRegistrationRepository.deleteAll();
+    }
+
+    @Test
+    void importCourses_persistsWholeTreesAcrossBatches() {
+        CourseImportResponse response = importLines(
+                "{\"title\":\"Java\",\"category\":\"Programming\",\"price\":10,"
+                        + "\"sections\":[{\"title\":\"Basics\",\"articles\":[{\"title\":\"Hello\",\"content\":\"World\"},"
+                        + "{\"title\":\"Types\",\"content\":\"int\",\"contentType\":\"MARKDOWN\"}]},{\"title\":\"Empty\"}]}",
+                "",
+                "{\"title\":\"Second\"}",
+                "{\"title\":\"Third\"}");
+
+        assertEquals(3, response.getImported());
+        assertEquals(0, response.getFailed());
+        assertEquals(List.of(1, 3, 4), response.getResults().stream().map(CourseImportResult::getLine).toList());
+
+        Course java = courseTreeLoader.load(response.getResults().get(0).getCourseId()).orElseThrow();
+        assertEquals("tutor-1", java.getTutorId());
+        List<Section> sections = java.getSections();
+        assertEquals(List.of("Basics", "Empty"), sections.stream().map(Section::getTitle).toList());
+        assertEquals(2, sections.get(0).getArticles().size());
+        assertEquals("MARKDOWN", sections.get(0).getArticles().get(1).getContentType());
+        assertEquals("TEXT", sections.get(0).getArticles().get(0).getContentType());
+        assertEquals(3, courseRepository.count());
+        verify(eventPublisher, times(3)).publishEvent(any(CourseChangedEvent.class));
+    }
+
+    @Test
+    void importCourses_reportsMalformedAndInvalidLinesWithoutStopping() {
+        CourseImportResponse response = importLines(
+                "{\"title\":\"Good\"}",
+                "{not json",
+                "{\"title\":\" \"}",
+                "{\"title\":\"Bad Article\",\"sections\":[{\"title\":\"S\",\"articles\":[{\"title\":\"A\"}]}]}",
+                "{\"title\":\"Also Good\"}");
+
+        assertEquals(2, response.getImported());
+        assertEquals(3, response.getFailed());
+        List<CourseImportResult> results = response.getResults();
+        assertEquals(CourseImportResult.Status.CREATED, results.get(0).getStatus());
+        assertTrue(results.get(1).getError().startsWith("Malformed JSON"));
+        assertEquals("Course title is required", results.get(2).getError());
+        assertEquals("Article content is required for 'A'", results.get(3).getError());
+        assertEquals(5, results.get(4).getLine());
+        assertEquals(2, courseRepository.count());
+    }
+
+    @Test
+    void importCourses_whenRowRejectedByDatabase_failsOnlyThatLine() {
+        String tooLongTitle = "x".repeat(300);
+
+        CourseImportResponse response = importLines(
+                "{\"title\":\"Fine\"}",
+                "{\"title\":\"" + tooLongTitle + "\"}");
+
+        assertEquals(1, response.getImported());
+        assertEquals(CourseImportResult.Status.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(CourseImportResult.Status.FAILED, response.getResults().get(1).getStatus());
+        assertTrue(response.getResults().get(1).getError().startsWith("Could not be saved"));
+        assertEquals(1, courseRepository.count());
+    }
+
+    @Test
+    void importCourses_acceptsExportedLines() {
+        CourseImportResponse response = importLines(
+                "{\"id\":7,\"title\":\"Exported\",\"tutorId\":\"someone-else\",\"createdAt\":\"2025-01-01T00:00\","
+                        + "\"sections\":[{\"id\":3,\"title\":\"S\",\"articles\":[{\"id\":9,\"title\":\"A\",\"content\":\"B\"}]}]}");
+
+        assertEquals(1, response.getImported());
+        Course course = courseRepository.findById(response.getResults().get(0).getCourseId()).orElseThrow();
+        assertEquals("tutor-1", course.getTutorId());
+    }
+
+    @Test
+    void importCourses_storesRepeatedArticleBodiesOnce() {
+        String setup = "{\"title\":\"Setup\",\"content\":\"Install the JDK first.\"}";
+        CourseImportResponse response = importLines(
+                "{\"title\":\"A\",\"sections\":[{\"title\":\"S\",\"articles\":[" + setup + "]}]}",
+                "{\"title\":\"B\",\"sections\":[{\"title\":\"S\",\"articles\":[" + setup
+                        + ",{\"title\":\"Other\",\"content\":\"Something else\"}]}]}");
+
+        assertEquals(2, response.getImported());
+        assertEquals(2, articleBodyRepository.count());
+        String setupHash = ArticleBody.hash("Install the JDK first.");
+        assertEquals(2, articleBodyRefCountRepository.findById(setupHash).orElseThrow().getRefCount());
+        Long courseId = response.getResults().get(1).getCourseId();
+        String content = new TransactionTemplate(transactionManager).execute(status -> courseTreeLoader.load(courseId)
+                .orElseThrow().getSections().get(0).getArticles().get(0).getContent());
+        assertEquals("Install the JDK first.", content);
+    }
+
+    @Test
+    void importCourses_whenNotAcceptedTutor_throwsForbidden() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> courseImportService.importCourses(body("{\"title\":\"X\"}"), "tutor-unknown"));
+
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+    }
+
+    @Test
+    void constructor_picksJdbcBatchWriterForH2() {
+        assertInstanceOf(JpaBatchCourseImportWriter.class, courseImportService.getWriter());
+    }
+
+    private CourseImportService service(int batchSize) {
+        return new CourseImportService(tutorRegistrationRepository, List.of(new JpaBatchCourseImportWriter(entityManager, articleBodyStore)),
+                entityManagerFactory, transactionManager, eventPublisher, new ObjectMapper(), batchSize);
+    }
+
+    private CourseImportResponse importLines(String... lines) {
+        return courseImportService.importCourses(body(String.join("\n", lines)), "tutor-1");
+    }
+
+    private static ByteArrayInputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,201 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseUpdateRequest;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.course.TutorCourseListItem;
+import id.ac.ui.cs.advprog.udehnihcourse.enrollment.EnrollmentCounter;
+import id.ac.ui.cs.advprog.udehnihcourse.metrics.SecondLevelCacheMetrics;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Article;
+import id.ac.ui.cs.advprog.udehnihcourse.model.CacheRegions;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
+import id.ac.ui.cs.advprog.udehnihcourse.model.Section;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleBodyStore;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseEnrollmentCountRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Second-level cache entries are only written on commit, so every step runs in its own transaction.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CourseManagementServiceCacheTest {
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseEnrollmentCountRepository countRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private CourseManagementService courseManagementService;
+    private EnrollmentCounter enrollmentCounter;
+    private Cache cache;
+    private Statistics statistics;
+
+    private Long courseId;
+    private Long sectionId;
+    private Long articleId;
+    private Long otherCourseId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        AcceptedTutors acceptedTutors = mock(AcceptedTutors.class);
+        when(acceptedTutors.isAccepted("tutor-1")).thenReturn(true);
+        enrollmentCounter = new EnrollmentCounter(courseRepository, countRepository, transactionManager);
+        courseManagementService = new CourseManagementService(courseRepository, acceptedTutors,
+                mock(ApplicationEventPublisher.class), enrollmentCounter, mock(ArticleBodyStore.class));
+        cache = entityManagerFactory.getCache();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        transaction.executeWithoutResult(status -> {
+            Course course = Course.builder().title("Cached Course").tutorId("tutor-1").build();
+            Section section = new Section();
+            section.setTitle("Section");
+            Article article = new Article();
+            article.setTitle("Article");
+            article.setContent("Body");
+            section.addArticle(article);
+            course.addSection(section);
+            courseRepository.save(course);
+            courseId = course.getId();
+            sectionId = section.getId();
+            articleId = article.getId();
+            otherCourseId = courseRepository.save(Course.builder().title("Other").tutorId("tutor-1").build()).getId();
+        });
+        cache.evictAll();
+        warmUp();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            countRepository.deleteAll();
+            courseRepository.deleteAll();
+        });
+        cache.evictAll();
+    }
+
+    @Test
+    void warmUp_cachesWholeAggregateAndTutorQuery() {
+        assertTrue(cache.contains(Course.class, courseId));
+        assertTrue(cache.contains(Section.class, sectionId));
+        assertTrue(cache.contains(Article.class, articleId));
+
+        assertEquals(List.of("Cached Course", "Other"), titlesByTutor());
+        assertEquals(1, region(CacheRegions.COURSES_BY_TUTOR_QUERY).getHitCount());
+        // Only the enrollment count lookup reaches the database.
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void enrollmentFlush_keepsCourseEntryAndTutorQuery() {
+        enrollmentCounter.add(courseId, 2);
+        enrollmentCounter.flush();
+        enrollmentCounter.increment(courseId);
+        enrollmentCounter.flush();
+        statistics.clear();
+
+        List<TutorCourseListItem> courses = transaction.execute(status -> courseManagementService.getCoursesByTutor("tutor-1"));
+
+        assertEquals(1, region(CacheRegions.COURSES_BY_TUTOR_QUERY).getHitCount());
+        assertEquals(0, region(CacheRegions.COURSES_BY_TUTOR_QUERY).getMissCount());
+        assertTrue(cache.contains(Course.class, courseId));
+        assertEquals(3, courses.stream().filter(course -> course.getId().equals(courseId))
+                .findFirst().orElseThrow().getEnrollmentCount());
+    }
+
+    @Test
+    void updateCourse_replacesCourseEntryAndInvalidatesTutorQuery() {
+        CourseUpdateRequest request = new CourseUpdateRequest();
+        request.setTitle("Renamed");
+        transaction.executeWithoutResult(status -> courseManagementService.updateCourse(courseId, request, "tutor-1"));
+        statistics.clear();
+
+        assertEquals(List.of("Other", "Renamed"), titlesByTutor());
+        assertEquals(0, region(CacheRegions.COURSES_BY_TUTOR_QUERY).getHitCount());
+        assertEquals(1, region(CacheRegions.COURSES_BY_TUTOR_QUERY).getMissCount());
+        // The course entry was replaced, not dropped: a lookup by id is a hit and sees the new title.
+        assertEquals("Renamed", transaction.execute(status -> courseRepository.findById(courseId).orElseThrow().getTitle()));
+        assertEquals(1, region(CacheRegions.COURSE).getHitCount());
+        assertTrue(cache.contains(Section.class, sectionId));
+        assertTrue(cache.contains(Article.class, articleId));
+    }
+
+    @Test
+    void deleteCourse_evictsCourseSectionsAndArticlesOnly() {
+        transaction.executeWithoutResult(status -> courseManagementService.deleteCourse(courseId, "tutor-1"));
+        statistics.clear();
+
+        transaction.executeWithoutResult(status -> {
+            assertNull(entityManager.find(Course.class, courseId));
+            assertNull(entityManager.find(Section.class, sectionId));
+            assertNull(entityManager.find(Article.class, articleId));
+            assertNotNull(entityManager.find(Course.class, otherCourseId));
+        });
+        assertEquals(1, region(CacheRegions.COURSE).getHitCount());
+        assertEquals(0, region(CacheRegions.SECTION).getHitCount());
+        assertEquals(0, region(CacheRegions.ARTICLE).getHitCount());
+        assertEquals(List.of("Other"), titlesByTutor());
+    }
+
+    @Test
+    void secondLevelCacheMetrics_reportsRegionHitRatio() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new SecondLevelCacheMetrics(entityManagerFactory).bindTo(meterRegistry);
+
+        transaction.executeWithoutResult(status -> courseRepository.findById(courseId));
+
+        assertEquals(1.0, meterRegistry.get("udehnih.cache.region.hit.ratio")
+                .tag("region", CacheRegions.COURSE).gauge().value());
+        assertEquals(1.0, meterRegistry.get("udehnih.cache.region.requests")
+                .tags("region", CacheRegions.COURSE, "result", "hit").functionCounter().count());
+    }
+
+    private void warmUp() {
+        transaction.executeWithoutResult(status -> {
+            Course course = courseRepository.findById(courseId).orElseThrow();
+            course.getSections().forEach(section -> section.getArticles().size());
+            courseRepository.findById(otherCourseId);
+            courseManagementService.getCoursesByTutor("tutor-1");
+        });
+    }
+
+    private List<String> titlesByTutor() {
+        return transaction.execute(status -> courseManagementService.getCoursesByTutor("tutor-1").stream()
+                .map(TutorCourseListItem::getTitle).sorted().toList());
+    }
+
+    private CacheRegionStatistics region(String name) {
+        return statistics.getCacheRegionStatistics(name);
+    }
+}
@@ -5,17 +5,19 @@ import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseCreateRequest;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseResponse;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.course.CourseUpdateRequest;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.course.TutorCourseListItem;
+import id.ac.ui.cs.advprog.udehnihcourse.enrollment.EnrollmentCounter;
+import id.ac.ui.cs.advprog.udehnihcourse.event.CourseChangedEvent;
 import id.ac.ui.cs.advprog.udehnihcourse.model.Course;
-import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistration;
-import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.ArticleBodyStore;
 import id.ac.ui.cs.advprog.udehnihcourse.repository.CourseRepository;
-import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorRegistrationRepository;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorCourseSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
@@ -23,6 +25,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,7 +37,16 @@ public class CourseManagementServiceTest {
     private CourseRepository courseRepository;
 
     @Mock
-    private TutorRegistrationRepository tutorRegistrationRepository;
+    private AcceptedTutors acceptedTutors;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EnrollmentCounter enrollmentCounter;
+
+    @Mock
+    private ArticleBodyStore articleBodyStore;
 
     @InjectMocks
     private CourseManagementService courseManagementService;
@@ -43,7 +55,6 @@ public class CourseManagementServiceTest {
     private String otherTutorId;
     private Long courseId;
     private Course course;
-    private TutorRegistration acceptedTutorReg;
 
     @BeforeEach
     void setUp() {
@@ -51,11 +62,6 @@ public class CourseManagementServiceTest {
         otherTutorId = "tutor-2";
         courseId = 1L;
 
-        acceptedTutorReg = new TutorRegistration();
-        acceptedTutorReg.setId(99L);
-        acceptedTutorReg.setStudentId(tutorId);
-        acceptedTutorReg.setStatus(TutorRegistrationStatus.ACCEPTED);
-
         course = Course.builder()
                 .id(courseId)
                 .title("Original Title")
@@ -69,13 +75,7 @@ public class CourseManagementServiceTest {
     }
 
     private void mockTutorVerification(String idToCheck, boolean isAccepted) {
-        if (isAccepted) {
-            when(tutorRegistrationRepository.findByStudentIdAndStatus(idToCheck, TutorRegistrationStatus.ACCEPTED))
-                    .thenReturn(Optional.of(acceptedTutorReg));
-        } else {
-            when(tutorRegistrationRepository.findByStudentIdAndStatus(idToCheck, TutorRegistrationStatus.ACCEPTED))
-                    .thenReturn(Optional.empty());
-        }
+        when(acceptedTutors.isAccepted(idToCheck)).thenReturn(isAccepted);
     }
 
     @Test
@@ -102,7 +102,7 @@ public class CourseManagementServiceTest {
         assertEquals("Course created successfully", response.getMessage());
         assertEquals(2L, response.getCourseId());
 
-        verify(tutorRegistrationRepository, times(1)).findByStudentIdAndStatus(tutorId, TutorRegistrationStatus.ACCEPTED);
+        verify(acceptedTutors, times(1)).isAccepted(tutorId);
         verify(courseRepository, times(1)).save(argThat(c ->
                 c.getTitle().equals("New Course") &&
                         c.getDescription().equals("New Desc") &&
@@ -110,6 +110,7 @@ public class CourseManagementServiceTest {
                         c.getPrice().compareTo(new BigDecimal("50.00")) == 0 &&
                         c.getTutorId().equals(tutorId)
         ));
+        verify(eventPublisher).publishEvent(CourseChangedEvent.created(2L, "New Course", "New Cat"));
     }
 
     @Test
@@ -125,15 +126,18 @@ public class CourseManagementServiceTest {
         assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
         assertTrue(exception.getReason().contains("User is not an authorized Tutor"));
 
-        verify(tutorRegistrationRepository, times(1)).findByStudentIdAndStatus(tutorId, TutorRegistrationStatus.ACCEPTED);
+        verify(acceptedTutors, times(1)).isAccepted(tutorId);
         verify(courseRepository, never()).save(any(Course.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     void getCoursesByTutor_whenTutorIsAccepted_shouldReturnCourses() {
         mockTutorVerification(tutorId, true);
-        when(courseRepository.findByTutorId(tutorId)).thenReturn(Arrays.asList(course));
-        // TODO: Mock enrollment service for actual count
+        TutorCourseSummary summary = new TutorCourseSummary(course.getId(), course.getTitle(), course.getCategory(),
+                course.getPrice(), course.getCreatedAt());
+        when(courseRepository.findSummariesByTutorId(tutorId)).thenReturn(Arrays.asList(summary));
+        when(enrollmentCounter.enrollmentCounts(List.of(course.getId()))).thenReturn(Map.of(course.getId(), 10L));
 
         List<TutorCourseListItem> responseList = courseManagementService.getCoursesByTutor(tutorId);
 
@@ -144,11 +148,11 @@ public class CourseManagementServiceTest {
         assertEquals(course.getTitle(), item.getTitle());
         assertEquals(course.getCategory(), item.getCategory());
         assertEquals(0, item.getPrice().compareTo(course.getPrice()));
-        assertEquals(0, item.getEnrollmentCount()); // Placeholder value
+        assertEquals(10, item.getEnrollmentCount());
         assertEquals(course.getCreatedAt(), item.getCreatedAt());
 
-        verify(tutorRegistrationRepository, times(1)).findByStudentIdAndStatus(tutorId, TutorRegistrationStatus.ACCEPTED);
-        verify(courseRepository, times(1)).findByTutorId(tutorId);
+        verify(acceptedTutors, times(1)).isAccepted(tutorId);
+        verify(courseRepository, times(1)).findSummariesByTutorId(tutorId);
     }
 
     @Test
@@ -160,8 +164,8 @@ public class CourseManagementServiceTest {
         });
 
         assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
-        verify(tutorRegistrationRepository, times(1)).findByStudentIdAndStatus(tutorId, TutorRegistrationStatus.ACCEPTED);
-        verify(courseRepository, never()).findByTutorId(anyString());
+        verify(acceptedTutors, times(1)).isAccepted(tutorId);
+        verify(courseRepository, never()).findSummariesByTutorId(anyString());
     }
 
     @Test
@@ -189,6 +193,7 @@ public class CourseManagementServiceTest {
                         c.getPrice().compareTo(new BigDecimal("200.00")) == 0 &&
                         c.getTutorId().equals(tutorId)
         ));
+        verify(eventPublisher).publishEvent(CourseChangedEvent.updated(courseId, "Updated Title", "Original Cat"));
     }
 
     @Test
@@ -229,7 +234,9 @@ public class CourseManagementServiceTest {
         assertDoesNotThrow(() -> courseManagementService.deleteCourse(courseId, tutorId));
 
         verify(courseRepository, times(1)).findById(courseId);
+        verify(articleBodyStore).releaseCourse(courseId);
         verify(courseRepository, times(1)).delete(course);
+        verify(eventPublisher).publishEvent(CourseChangedEvent.deleted(courseId));
     }
 
     @Test
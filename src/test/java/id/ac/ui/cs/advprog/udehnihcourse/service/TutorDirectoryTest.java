@@ -0,0 +1,86 @@
+package id.ac.ui.cs.advprog.udehnihcourse.service;
+
+import id.ac.ui.cs.advprog.udehnihcourse.client.TutorLookupClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TutorDirectoryTest {
+
+    @Mock
+    private TutorLookupClient tutorLookupClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TutorDirectory tutorDirectory;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tutorDirectory = new TutorDirectory(tutorLookupClient, meterRegistry, Duration.ofMinutes(10), Duration.ofMinutes(1));
+    }
+
+    @Test
+    void resolveNames_looksUpDistinctIdsInOneCall() {
+        when(tutorLookupClient.findNamesByIds(anyCollection()))
+                .thenReturn(Map.of("tutor-1", "Alice", "tutor-2", "Bob"));
+
+        Map<String, String> names = tutorDirectory.resolveNames(List.of("tutor-1", "tutor-2", "tutor-1"));
+
+        assertEquals(Map.of("tutor-1", "Alice", "tutor-2", "Bob"), names);
+        verify(tutorLookupClient, times(1)).findNamesByIds(argThat(ids -> Set.copyOf(ids).equals(Set.of("tutor-1", "tutor-2"))));
+    }
+
+    @Test
+    void resolveNames_servesCachedNamesWithoutRemoteCall() {
+        when(tutorLookupClient.findNamesByIds(anyCollection())).thenReturn(Map.of("tutor-1", "Alice"));
+
+        tutorDirectory.resolveNames(List.of("tutor-1"));
+        Map<String, String> names = tutorDirectory.resolveNames(List.of("tutor-1"));
+
+        assertEquals("Alice", names.get("tutor-1"));
+        verify(tutorLookupClient, times(1)).findNamesByIds(anyCollection());
+    }
+
+    @Test
+    void resolveNames_cachesUnknownIds() {
+        when(tutorLookupClient.findNamesByIds(anyCollection())).thenReturn(Map.of());
+
+        assertTrue(tutorDirectory.resolveNames(List.of("ghost")).isEmpty());
+        assertNull(tutorDirectory.resolveName("ghost"));
+
+        verify(tutorLookupClient, times(1)).findNamesByIds(anyCollection());
+    }
+
+    @Test
+    void resolveNames_recordsRemoteLookupsPerRequest() {
+        when(tutorLookupClient.findNamesByIds(anyCollection())).thenReturn(Map.of("tutor-1", "Alice", "tutor-2", "Bob"));
+
+        tutorDirectory.resolveNames(List.of("tutor-1", "tutor-2"));
+        tutorDirectory.resolveNames(List.of("tutor-1", "tutor-2"));
+
+        var summary = meterRegistry.get("tutor.directory.lookups").summary();
+        assertEquals(2, summary.count());
+        assertEquals(2.0, summary.totalAmount());
+    }
+
+    @Test
+    void resolveNames_ignoresNullIds() {
+        assertTrue(tutorDirectory.resolveNames(Arrays.asList(null, null)).isEmpty());
+        assertNull(tutorDirectory.resolveName(null));
+        verifyNoInteractions(tutorLookupClient);
+    }
+}
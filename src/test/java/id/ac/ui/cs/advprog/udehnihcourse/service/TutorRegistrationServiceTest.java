@@ -1,10 +1,18 @@
 package id.ac.ui.cs.advprog.udehnihcourse.service;
 
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationDecisionResponse;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationDecisionResult;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationDetailResponse;
+import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationQueuePage;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationRequest;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationResponse;
 import id.ac.ui.cs.advprog.udehnihcourse.dto.tutor.TutorApplicationStatusResponse;
+import id.ac.ui.cs.advprog.udehnihcourse.event.TutorRegistrationProcessedEvent;
+import id.ac.ui.cs.advprog.udehnihcourse.event.TutorRegistrationsProcessedEvent;
 import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistration;
 import id.ac.ui.cs.advprog.udehnihcourse.model.TutorRegistrationStatus;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorApplicationClaim;
+import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorApplicationSummary;
 import id.ac.ui.cs.advprog.udehnihcourse.repository.TutorRegistrationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,11 +20,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,6 +40,9 @@ public class TutorRegistrationServiceTest {
     @Mock
     private TutorRegistrationRepository tutorRegistrationRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TutorRegistrationService tutorRegistrationService;
 
@@ -207,4 +223,148 @@ public class TutorRegistrationServiceTest {
         verify(tutorRegistrationRepository, never()).delete(any(TutorRegistration.class));
     }
 
+
+    @Test
+    void updateRegistrationStatusByStaff_whenAccepted_publishesProcessedEvent() {
+        existingPendingApp.setId(10L);
+        when(tutorRegistrationRepository.findById(10L)).thenReturn(Optional.of(existingPendingApp));
+
+        tutorRegistrationService.updateRegistrationStatusByStaff(10L, TutorRegistrationStatus.ACCEPTED, "staff-1");
+
+        assertEquals(TutorRegistrationStatus.ACCEPTED, existingPendingApp.getStatus());
+        assertNotNull(existingPendingApp.getProcessedAt());
+        verify(tutorRegistrationRepository).save(existingPendingApp);
+        verify(eventPublisher).publishEvent(
+                new TutorRegistrationProcessedEvent(10L, studentId, TutorRegistrationStatus.ACCEPTED));
+    }
+
+    @Test
+    void updateRegistrationStatusByStaff_whenNotPending_publishesNothing() {
+        existingAcceptedApp.setId(11L);
+        when(tutorRegistrationRepository.findById(11L)).thenReturn(Optional.of(existingAcceptedApp));
+
+        assertThrows(IllegalStateException.class, () ->
+                tutorRegistrationService.updateRegistrationStatusByStaff(11L, TutorRegistrationStatus.DENIED, "staff-1"));
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void getReviewQueue_whenMoreRowsThanPageSize_returnsCursorOfLastRow() {
+        LocalDateTime submittedAt = LocalDateTime.of(2024, 5, 1, 9, 0);
+        when(tutorRegistrationRepository.findQueueFirstPage(TutorRegistrationStatus.PENDING, Limit.of(3)))
+                .thenReturn(List.of(
+                        new TutorApplicationSummary(1L, "s-1", TutorRegistrationStatus.PENDING, submittedAt),
+                        new TutorApplicationSummary(2L, "s-2", TutorRegistrationStatus.PENDING, submittedAt),
+                        new TutorApplicationSummary(3L, "s-3", TutorRegistrationStatus.PENDING, submittedAt)));
+
+        TutorApplicationQueuePage page = tutorRegistrationService.getReviewQueue(null, null, 2);
+
+        assertEquals(2, page.getApplications().size());
+        assertEquals("s-2", page.getApplications().get(1).getStudentId());
+        TutorApplicationCursor cursor = TutorApplicationCursor.decode(page.getNextCursor());
+        assertEquals(submittedAt, cursor.submittedAt());
+        assertEquals(2L, cursor.id());
+    }
+
+    @Test
+    void getReviewQueue_whenCursorGiven_readsPageAfterIt() {
+        LocalDateTime submittedAt = LocalDateTime.of(2024, 5, 1, 9, 0);
+        String cursor = new TutorApplicationCursor(submittedAt, 2L).encode();
+        when(tutorRegistrationRepository.findQueuePageAfter(TutorRegistrationStatus.DENIED, submittedAt, 2L,
+                Limit.of(TutorRegistrationService.DEFAULT_QUEUE_PAGE_SIZE + 1)))
+                .thenReturn(List.of(new TutorApplicationSummary(5L, "s-5", TutorRegistrationStatus.DENIED, submittedAt)));
+
+        TutorApplicationQueuePage page = tutorRegistrationService.getReviewQueue(TutorRegistrationStatus.DENIED, cursor, null);
+
+        assertEquals(1, page.getApplications().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getReviewQueue_whenCursorMalformed_throwsBadRequest() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                tutorRegistrationService.getReviewQueue(null, "not-a-cursor", null));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(tutorRegistrationRepository);
+    }
+
+    @Test
+    void getApplicationForReview_whenFound_returnsFullApplication() {
+        when(tutorRegistrationRepository.findById(1L)).thenReturn(Optional.of(existingPendingApp));
+
+        TutorApplicationDetailResponse response = tutorRegistrationService.getApplicationForReview(1L);
+
+        assertEquals(studentId, response.getStudentId());
+        assertEquals("OldExp", response.getExperience());
+        assertEquals("OldBio", response.getBio());
+    }
+
+    @Test
+    void getApplicationForReview_whenMissing_throwsNotFound() {
+        when(tutorRegistrationRepository.findById(99L)).thenReturn(Optional.empty());
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                tutorRegistrationService.getApplicationForReview(99L));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+    }
+
+    @Test
+    void decideRegistrationsByStaff_reportsOutcomePerIdAndPublishesOneEvent() {
+        when(tutorRegistrationRepository.claimPending(Set.of(1L, 2L, 3L)))
+                .thenReturn(List.of(new TutorApplicationClaim(1L, "s-1")));
+        when(tutorRegistrationRepository.decidePending(eq(Set.of(1L)), eq(TutorRegistrationStatus.ACCEPTED), any()))
+                .thenReturn(1);
+        when(tutorRegistrationRepository.findExistingIds(Set.of(1L, 2L, 3L))).thenReturn(List.of(1L, 2L));
+
+        TutorApplicationDecisionResponse response = tutorRegistrationService.decideRegistrationsByStaff(
+                List.of(1L, 2L, 3L, 1L), TutorRegistrationStatus.ACCEPTED, "staff-1");
+
+        assertEquals(1, response.getApplied());
+        assertEquals(List.of(
+                new TutorApplicationDecisionResult(1L, TutorApplicationDecisionResult.Outcome.APPLIED),
+                new TutorApplicationDecisionResult(2L, TutorApplicationDecisionResult.Outcome.ALREADY_PROCESSED),
+                new TutorApplicationDecisionResult(3L, TutorApplicationDecisionResult.Outcome.NOT_FOUND)),
+                response.getResults());
+        verify(tutorRegistrationRepository, times(1)).decidePending(any(), any(), any());
+        verify(eventPublisher).publishEvent(new TutorRegistrationsProcessedEvent(List.of(
+                new TutorRegistrationProcessedEvent(1L, "s-1", TutorRegistrationStatus.ACCEPTED))));
+    }
+
+    @Test
+    void decideRegistrationsByStaff_whenNothingClaimed_updatesAndPublishesNothing() {
+        when(tutorRegistrationRepository.claimPending(Set.of(7L))).thenReturn(List.of());
+        when(tutorRegistrationRepository.findExistingIds(Set.of(7L))).thenReturn(List.of());
+
+        TutorApplicationDecisionResponse response = tutorRegistrationService.decideRegistrationsByStaff(
+                List.of(7L), TutorRegistrationStatus.DENIED, "staff-1");
+
+        assertEquals(0, response.getApplied());
+        assertEquals(TutorApplicationDecisionResult.Outcome.NOT_FOUND, response.getResults().get(0).getOutcome());
+        verify(tutorRegistrationRepository, never()).decidePending(any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void decideRegistrationsByStaff_whenStatusNotADecision_throwsBadRequest() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                tutorRegistrationService.decideRegistrationsByStaff(List.of(1L), TutorRegistrationStatus.PENDING, "staff-1"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(tutorRegistrationRepository);
+    }
+
+    @Test
+    void decideRegistrationsByStaff_whenTooManyIds_throwsBadRequest() {
+        List<Long> ids = LongStream.rangeClosed(1, TutorRegistrationService.MAX_DECISION_BATCH_SIZE + 1)
+                .boxed().toList();
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                tutorRegistrationService.decideRegistrationsByStaff(ids, TutorRegistrationStatus.ACCEPTED, "staff-1"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(tutorRegistrationRepository);
+    }
 }